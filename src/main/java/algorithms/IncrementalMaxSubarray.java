@@ -0,0 +1,224 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Growable int array that maintains its maximum subarray incrementally
+ *
+ * Appends feed a running {@link KadaneState}, so they are amortized O(1).
+ * Every {@code checkpointInterval} (B) elements the state is saved into a
+ * flat long[]. An edit at index i restores the last checkpoint at or
+ * before i and re-scans from there, so changing or removing one of the
+ * last k elements costs O(k + B) instead of a full re-scan. The answer is
+ * always identical to
+ * {@link KadaneAlgorithmOptimized#findMaxSubarray(int[])} on the current
+ * contents.
+ *
+ * Not thread-safe.
+ */
+public final class IncrementalMaxSubarray {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 1024;
+
+    // Saved per checkpoint; the position is implied by the checkpoint number
+    private static final int CHECKPOINT_FIELDS = 5;
+
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int checkpointInterval;
+    private int[] values;
+    private int size;
+
+    // Checkpoint j (1-based) is the state after j * checkpointInterval values
+    private long[] checkpoints;
+    private int checkpointCount;
+
+    private KadaneState state = new KadaneState();
+    private long rescanned;     // Values re-fed because of edits
+
+    public IncrementalMaxSubarray() {
+        this(DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    public IncrementalMaxSubarray(int checkpointInterval) {
+        if (checkpointInterval <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.checkpointInterval = checkpointInterval;
+        this.values = new int[16];
+        this.checkpoints = new long[4 * CHECKPOINT_FIELDS];
+    }
+
+    public void append(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, grow(values.length, size + 1));
+        }
+        values[size++] = value;
+        state.accept(value);
+        if (size % checkpointInterval == 0) {
+            saveCheckpoint();
+        }
+    }
+
+    /**
+     * Appends chunk[from, to)
+     */
+    public void append(int[] chunk, int from, int to) {
+        Objects.checkFromToIndex(from, to, chunk.length);
+        int count = to - from;
+        if (size + count > values.length) {
+            values = Arrays.copyOf(values, grow(values.length, size + count));
+        }
+        System.arraycopy(chunk, from, values, size, count);
+        int oldSize = size;
+        size += count;
+        feed(oldSize);
+    }
+
+    /**
+     * Replaces the value at index and re-scans from the checkpoint before it
+     */
+    public void set(int index, int value) {
+        Objects.checkIndex(index, size);
+        if (values[index] == value) {
+            return;
+        }
+        values[index] = value;
+        rescanFrom(index);
+    }
+
+    public void removeLast() {
+        if (size == 0) {
+            throw new IllegalStateException("Container is empty");
+        }
+        truncate(size - 1);
+    }
+
+    /**
+     * Drops every value at or after newSize
+     */
+    public void truncate(int newSize) {
+        if (newSize < 0 || newSize > size) {
+            throw new IndexOutOfBoundsException("New size " + newSize + " out of bounds for size " + size);
+        }
+        if (newSize == size) {
+            return;
+        }
+        size = newSize;
+        rescanFrom(newSize);
+    }
+
+    public int get(int index) {
+        Objects.checkIndex(index, size);
+        return values[index];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * @throws IllegalStateException if the container is empty
+     */
+    public long getMaxSum() {
+        requireNonEmpty();
+        return state.getBestSum();
+    }
+
+    public int getStartIndex() {
+        requireNonEmpty();
+        return (int) state.getBestStart();
+    }
+
+    public int getEndIndex() {
+        requireNonEmpty();
+        return (int) state.getBestEnd();
+    }
+
+    /**
+     * @throws IllegalStateException if the container is empty
+     */
+    public KadaneAlgorithmOptimized.Result toResult(PerformanceTracker metrics) {
+        return state.toResult(metrics);
+    }
+
+    public int getCheckpointInterval() {
+        return checkpointInterval;
+    }
+
+    /**
+     * Total values re-scanned by edits since creation
+     */
+    public long getRescannedElements() {
+        return rescanned;
+    }
+
+    private void rescanFrom(int index) {
+        int checkpoint = Math.min(index / checkpointInterval, checkpointCount);
+        state = checkpoint == 0 ? new KadaneState() : restoreCheckpoint(checkpoint);
+        checkpointCount = checkpoint;
+
+        int from = checkpoint * checkpointInterval;
+        rescanned += size - from;
+        feed(from);
+    }
+
+    /**
+     * Feeds values[from, size) into the state, saving checkpoints on the way
+     */
+    private void feed(int from) {
+        int position = from;
+        while (position < size) {
+            int boundary = (position / checkpointInterval + 1) * checkpointInterval;
+            int to = Math.min(size, boundary);
+            state.accept(values, position, to);
+            position = to;
+            if (position == boundary) {
+                saveCheckpoint();
+            }
+        }
+    }
+
+    private void saveCheckpoint() {
+        int offset = checkpointCount * CHECKPOINT_FIELDS;
+        if (offset + CHECKPOINT_FIELDS > checkpoints.length) {
+            checkpoints = Arrays.copyOf(checkpoints, checkpoints.length * 2);
+        }
+        checkpoints[offset] = state.getCurrentSum();
+        checkpoints[offset + 1] = state.getBestSum();
+        checkpoints[offset + 2] = state.getTempStart();
+        checkpoints[offset + 3] = state.getBestStart();
+        checkpoints[offset + 4] = state.getBestEnd();
+        checkpointCount++;
+    }
+
+    private KadaneState restoreCheckpoint(int checkpoint) {
+        int offset = (checkpoint - 1) * CHECKPOINT_FIELDS;
+        return new KadaneState(checkpoints[offset], checkpoints[offset + 1], checkpoints[offset + 2],
+            checkpoints[offset + 3], checkpoints[offset + 4], (long) checkpoint * checkpointInterval);
+    }
+
+    private void requireNonEmpty() {
+        if (size == 0) {
+            throw new IllegalStateException("Container is empty");
+        }
+    }
+
+    private static int grow(int capacity, int needed) {
+        if (needed < 0 || needed > MAX_CAPACITY) {
+            throw new OutOfMemoryError("Container too large");
+        }
+        return (int) Math.min(MAX_CAPACITY, Math.max(2L * capacity, needed));
+    }
+}
@@ -1,5 +1,7 @@
 package algorithms;
 
+import metrics.EngineEvents;
+import metrics.EngineInvocationEvent;
 import metrics.PerformanceTracker;
 
 /**
@@ -44,6 +46,7 @@ public class KadaneAlgorithm {
         
         PerformanceTracker tracker = new PerformanceTracker();
         tracker.startTimer();
+        EngineInvocationEvent event = EngineEvents.begin();
         
         int maxSum = arr[0];
         int currentSum = arr[0];
@@ -76,6 +79,8 @@ public class KadaneAlgorithm {
             }
         }
         
+        EngineEvents.finish(event, "KadaneAlgorithm.findMaxSubarray",
+            arr.length, EngineInvocationEvent.PATH_FULL_SCAN, maxSum);
         tracker.stopTimer();
         return new Result(maxSum, start, end, tracker);
     }
@@ -90,6 +95,7 @@ public class KadaneAlgorithm {
         
         PerformanceTracker tracker = new PerformanceTracker();
         tracker.startTimer();
+        EngineInvocationEvent event = EngineEvents.begin();
         
         // Check if all elements are negative - find max element
         boolean allNegative = true;
@@ -111,6 +117,8 @@ public class KadaneAlgorithm {
         }
         
         if (allNegative) {
+            EngineEvents.finish(event, "KadaneAlgorithm.findMaxSubarrayOptimized",
+                arr.length, EngineInvocationEvent.PATH_ALL_NEGATIVE, maxElement);
             tracker.stopTimer();
             return new Result(maxElement, maxIndex, maxIndex, tracker);
         }
@@ -142,6 +150,8 @@ public class KadaneAlgorithm {
             }
         }
         
+        EngineEvents.finish(event, "KadaneAlgorithm.findMaxSubarrayOptimized",
+            arr.length, EngineInvocationEvent.PATH_FULL_SCAN, maxSum);
         tracker.stopTimer();
         return new Result(maxSum, start, end, tracker);
     }
@@ -1,5 +1,7 @@
 package algorithms;
 
+import metrics.EngineEvents;
+import metrics.EngineInvocationEvent;
 import metrics.PerformanceTracker;
 
 /**
@@ -52,6 +54,7 @@ public class KadaneAlgorithmOptimized {
         
         PerformanceTracker tracker = new PerformanceTracker();
         tracker.startTimer();
+        EngineInvocationEvent event = EngineEvents.begin();
         
         long maxSum = arr[0];
         long currentSum = arr[0];
@@ -85,6 +88,8 @@ public class KadaneAlgorithmOptimized {
             }
         }
         
+        EngineEvents.finish(event, "KadaneAlgorithmOptimized.findMaxSubarray",
+            arr.length, EngineInvocationEvent.PATH_FULL_SCAN, maxSum);
         tracker.stopTimer();
         return new Result(maxSum, start, end, tracker);
     }
@@ -99,6 +104,7 @@ public class KadaneAlgorithmOptimized {
         
         PerformanceTracker tracker = new PerformanceTracker();
         tracker.startTimer();
+        EngineInvocationEvent event = EngineEvents.begin();
         
         // Check for all-negative array (early termination)
         boolean allNegative = true;
@@ -120,6 +126,8 @@ public class KadaneAlgorithmOptimized {
         }
         
         if (allNegative) {
+            EngineEvents.finish(event, "KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination",
+                arr.length, EngineInvocationEvent.PATH_ALL_NEGATIVE, maxElement);
             tracker.stopTimer();
             return new Result(maxElement, maxIndex, maxIndex, tracker);
         }
@@ -151,6 +159,8 @@ public class KadaneAlgorithmOptimized {
             }
         }
         
+        EngineEvents.finish(event, "KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination",
+            arr.length, EngineInvocationEvent.PATH_FULL_SCAN, maxSum);
         tracker.stopTimer();
         return new Result(maxSum, start, end, tracker);
     }
@@ -0,0 +1,142 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+/**
+ * Running state of the optimized Kadane recurrence for streamed input
+ *
+ * Values are fed one at a time or in chunks, so decoders and readers can
+ * run the scan without materializing the whole input as an int[]. After
+ * any prefix of the input the state holds exactly what
+ * {@link KadaneAlgorithmOptimized#findMaxSubarray(int[])} would return for
+ * that prefix. Positions are long so inputs may exceed 2^31 elements.
+ */
+public final class KadaneState {
+
+    private long currentSum;
+    private long bestSum = Long.MIN_VALUE;
+    private long tempStart;
+    private long bestStart;
+    private long bestEnd;
+    private long position;     // Number of values consumed so far
+
+    public KadaneState() {
+    }
+
+    /**
+     * Restores a previously captured state
+     */
+    public KadaneState(long currentSum, long bestSum, long tempStart,
+                       long bestStart, long bestEnd, long position) {
+        if (position < 0) {
+            throw new IllegalArgumentException("Position cannot be negative");
+        }
+        this.currentSum = currentSum;
+        this.bestSum = bestSum;
+        this.tempStart = tempStart;
+        this.bestStart = bestStart;
+        this.bestEnd = bestEnd;
+        this.position = position;
+    }
+
+    public void accept(int value) {
+        if (currentSum < 0) {
+            currentSum = value;
+            tempStart = position;
+        } else {
+            currentSum += value;
+        }
+        if (currentSum > bestSum) {
+            bestSum = currentSum;
+            bestStart = tempStart;
+            bestEnd = position;
+        }
+        position++;
+    }
+
+    /**
+     * Consumes chunk[from, to), keeping the hot loop in locals
+     */
+    public void accept(int[] chunk, int from, int to) {
+        long current = currentSum;
+        long best = bestSum;
+        long temp = tempStart;
+        long bStart = bestStart;
+        long bEnd = bestEnd;
+        long pos = position;
+
+        for (int i = from; i < to; i++, pos++) {
+            int value = chunk[i];
+            if (current < 0) {
+                current = value;
+                temp = pos;
+            } else {
+                current += value;
+            }
+            if (current > best) {
+                best = current;
+                bStart = temp;
+                bEnd = pos;
+            }
+        }
+
+        currentSum = current;
+        bestSum = best;
+        tempStart = temp;
+        bestStart = bStart;
+        bestEnd = bEnd;
+        position = pos;
+    }
+
+    public boolean isEmpty() {
+        return position == 0;
+    }
+
+    public long getCurrentSum() {
+        return currentSum;
+    }
+
+    public long getBestSum() {
+        return bestSum;
+    }
+
+    public long getTempStart() {
+        return tempStart;
+    }
+
+    public long getBestStart() {
+        return bestStart;
+    }
+
+    public long getBestEnd() {
+        return bestEnd;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public KadaneState copy() {
+        return new KadaneState(currentSum, bestSum, tempStart, bestStart, bestEnd, position);
+    }
+
+    /**
+     * Converts to the optimized result type
+     *
+     * @throws IllegalStateException if no values were consumed
+     * @throws ArithmeticException if the indices do not fit in an int
+     */
+    public KadaneAlgorithmOptimized.Result toResult(PerformanceTracker metrics) {
+        if (isEmpty()) {
+            throw new IllegalStateException("No values consumed");
+        }
+        return new KadaneAlgorithmOptimized.Result(bestSum,
+            Math.toIntExact(bestStart), Math.toIntExact(bestEnd), metrics);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MaxSum: %d, Range: [%d, %d], Position: %d",
+            bestSum, bestStart, bestEnd, position);
+    }
+}
@@ -0,0 +1,32 @@
+package algorithms;
+
+/**
+ * Service provider interface for maximum subarray implementations
+ *
+ * Engines are discovered with {@link java.util.ServiceLoader} through
+ * META-INF/services/algorithms.MaxSubarrayEngine; see
+ * {@link MaxSubarrayEngines}. Every engine must:
+ * <ul>
+ *   <li>throw IllegalArgumentException for a null or empty array</li>
+ *   <li>return the maximum sum of a non-empty contiguous subarray</li>
+ *   <li>on ties, report the earliest end index, then the earliest start
+ *       index for that end (what Kadane's scan produces)</li>
+ * </ul>
+ * The shared conformance suite checks these rules for every registered engine.
+ */
+public interface MaxSubarrayEngine {
+    
+    /**
+     * Stable, unique name used in reports, baselines and JFR events
+     */
+    String name();
+    
+    MaxSubarrayResult findMaxSubarray(int[] arr);
+    
+    /**
+     * Whether sums beyond the int range are reported exactly
+     */
+    default boolean isOverflowSafe() {
+        return true;
+    }
+}
@@ -0,0 +1,45 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+/**
+ * Registry of {@link MaxSubarrayEngine}s found on the class path
+ */
+public final class MaxSubarrayEngines {
+    
+    private static volatile List<MaxSubarrayEngine> engines;
+    
+    private MaxSubarrayEngines() {
+    }
+    
+    /**
+     * All registered engines, in service file order
+     */
+    public static List<MaxSubarrayEngine> all() {
+        List<MaxSubarrayEngine> loaded = engines;
+        if (loaded == null) {
+            List<MaxSubarrayEngine> found = new ArrayList<>();
+            for (MaxSubarrayEngine engine : ServiceLoader.load(MaxSubarrayEngine.class)) {
+                found.add(engine);
+            }
+            loaded = Collections.unmodifiableList(found);
+            engines = loaded;
+        }
+        return loaded;
+    }
+    
+    /**
+     * @throws IllegalArgumentException if no engine has that name
+     */
+    public static MaxSubarrayEngine byName(String name) {
+        for (MaxSubarrayEngine engine : all()) {
+            if (engine.name().equals(name)) {
+                return engine;
+            }
+        }
+        throw new IllegalArgumentException("Unknown engine: " + name);
+    }
+}
@@ -0,0 +1,36 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+/**
+ * Engine-independent result of a maximum subarray search
+ *
+ * The sum is a long so engines that accumulate in long and in int report
+ * through the same type.
+ */
+public final class MaxSubarrayResult {
+    public final long maxSum;
+    public final int startIndex;
+    public final int endIndex;
+    public final PerformanceTracker metrics;
+    
+    public MaxSubarrayResult(long maxSum, int startIndex, int endIndex, PerformanceTracker metrics) {
+        this.maxSum = maxSum;
+        this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.metrics = metrics;
+    }
+    
+    public static MaxSubarrayResult of(KadaneAlgorithm.Result result) {
+        return new MaxSubarrayResult(result.maxSum, result.startIndex, result.endIndex, result.metrics);
+    }
+    
+    public static MaxSubarrayResult of(KadaneAlgorithmOptimized.Result result) {
+        return new MaxSubarrayResult(result.maxSum, result.startIndex, result.endIndex, result.metrics);
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("MaxSum: %d, Range: [%d, %d]", maxSum, startIndex, endIndex);
+    }
+}
@@ -0,0 +1,133 @@
+package algorithms;
+
+import metrics.EngineEvents;
+import metrics.EngineInvocationEvent;
+import metrics.PerformanceTracker;
+
+/**
+ * Fused single-pass kernel: maximum subarray, minimum subarray, total sum
+ * and the all-negative flag
+ *
+ * The separate approach reads the input once for the all-negative check,
+ * once for Kadane, and again for the minimum subarray and the total. On
+ * inputs larger than the last-level cache each pass is bound by memory
+ * bandwidth, so this kernel reads each element exactly once and updates
+ * every statistic from the same register.
+ *
+ * Tie-breaking matches the other engines: the maximum subarray with the
+ * earliest end, then the earliest start. The minimum subarray mirrors it.
+ * Finding the first non-negative element, which gives the all-negative
+ * flag, costs one extra branch per element. Once that element is found
+ * the branch is always false and predicts well; on all-negative input it
+ * is tested for every element.
+ *
+ * Time Complexity: O(n), one pass
+ * Space Complexity: O(1)
+ */
+public final class SubarrayStatistics {
+
+    public final long maxSum;
+    public final int maxStart;
+    public final int maxEnd;
+    public final long minSum;
+    public final int minStart;
+    public final int minEnd;
+    public final long total;
+    public final int firstNonNegative;   // -1 if every element is negative
+    public final PerformanceTracker metrics;
+
+    private SubarrayStatistics(long maxSum, int maxStart, int maxEnd, long minSum, int minStart, int minEnd,
+                               long total, int firstNonNegative, PerformanceTracker metrics) {
+        this.maxSum = maxSum;
+        this.maxStart = maxStart;
+        this.maxEnd = maxEnd;
+        this.minSum = minSum;
+        this.minStart = minStart;
+        this.minEnd = minEnd;
+        this.total = total;
+        this.firstNonNegative = firstNonNegative;
+        this.metrics = metrics;
+    }
+
+    /**
+     * @throws IllegalArgumentException if array is null or empty
+     */
+    public static SubarrayStatistics compute(int[] arr) {
+        if (arr == null || arr.length == 0) {
+            throw new IllegalArgumentException("Array cannot be null or empty");
+        }
+
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.startTimer();
+        EngineInvocationEvent event = EngineEvents.begin();
+
+        int first = arr[0];
+        long total = first;
+        int firstNonNegative = first >= 0 ? 0 : -1;
+
+        long maxSum = first;
+        long maxCurrent = first;
+        int maxStart = 0;
+        int maxEnd = 0;
+        int maxTempStart = 0;
+
+        long minSum = first;
+        long minCurrent = first;
+        int minStart = 0;
+        int minEnd = 0;
+        int minTempStart = 0;
+
+        for (int i = 1; i < arr.length; i++) {
+            int current = arr[i];
+            total += current;
+
+            if (firstNonNegative < 0 && current >= 0) {
+                firstNonNegative = i;
+            }
+
+            if (maxCurrent < 0) {
+                maxCurrent = current;
+                maxTempStart = i;
+            } else {
+                maxCurrent += current;
+            }
+            if (maxCurrent > maxSum) {
+                maxSum = maxCurrent;
+                maxStart = maxTempStart;
+                maxEnd = i;
+            }
+
+            if (minCurrent > 0) {
+                minCurrent = current;
+                minTempStart = i;
+            } else {
+                minCurrent += current;
+            }
+            if (minCurrent < minSum) {
+                minSum = minCurrent;
+                minStart = minTempStart;
+                minEnd = i;
+            }
+        }
+
+        // Counted in bulk to keep the tracker out of the loop
+        tracker.incrementArrayAccess(arr.length);
+        tracker.incrementComparisons(5L * (arr.length - 1) + 1);
+
+        EngineEvents.finish(event, "SubarrayStatistics.compute",
+            arr.length, EngineInvocationEvent.PATH_FULL_SCAN, maxSum);
+        tracker.stopTimer();
+        return new SubarrayStatistics(maxSum, maxStart, maxEnd, minSum, minStart, minEnd,
+            total, firstNonNegative, tracker);
+    }
+
+    public boolean isAllNegative() {
+        return firstNonNegative < 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Max: %d [%d, %d], Min: %d [%d, %d], Total: %d, All negative: %b",
+            maxSum, maxStart, maxEnd, minSum, minStart, minEnd, total, isAllNegative());
+    }
+}
@@ -0,0 +1,227 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+
+import java.util.List;
+
+/**
+ * Mergeable summary of a contiguous segment for the maximum subarray problem
+ *
+ * Holds the segment total, best prefix, best suffix and best subarray, each
+ * with global indices. Two adjacent summaries combine in O(1), so a large
+ * input can be reduced shard by shard and merged into the exact answer
+ * {@link KadaneAlgorithmOptimized#findMaxSubarray(int[])} would return,
+ * including its tie-breaking (earliest end, then earliest start).
+ */
+public final class SubarraySummary {
+
+    public final long offset;       // Global index of the first element
+    public final long length;       // Number of elements in the segment
+    public final long total;
+    public final long bestPrefix;
+    public final long prefixEnd;
+    public final long bestSuffix;
+    public final long suffixStart;
+    public final long bestSum;
+    public final long bestStart;
+    public final long bestEnd;
+
+    public SubarraySummary(long offset, long length, long total,
+                           long bestPrefix, long prefixEnd,
+                           long bestSuffix, long suffixStart,
+                           long bestSum, long bestStart, long bestEnd) {
+        if (length <= 0) {
+            throw new IllegalArgumentException("Segment cannot be empty");
+        }
+        this.offset = offset;
+        this.length = length;
+        this.total = total;
+        this.bestPrefix = bestPrefix;
+        this.prefixEnd = prefixEnd;
+        this.bestSuffix = bestSuffix;
+        this.suffixStart = suffixStart;
+        this.bestSum = bestSum;
+        this.bestStart = bestStart;
+        this.bestEnd = bestEnd;
+    }
+
+    /**
+     * Summarizes arr[from, to) as if it started at global index offset + from
+     */
+    public static SubarraySummary of(int[] arr, int from, int to, long offset) {
+        if (arr == null || from < 0 || to > arr.length || from >= to) {
+            throw new IllegalArgumentException("Array range cannot be null or empty");
+        }
+        Builder builder = new Builder(offset + from);
+        for (int i = from; i < to; i++) {
+            builder.add(arr[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Combines this summary with the segment immediately to its right
+     *
+     * @throws IllegalArgumentException if the segments are not adjacent
+     */
+    public SubarraySummary merge(SubarraySummary right) {
+        if (right.offset != offset + length) {
+            throw new IllegalArgumentException(String.format(
+                "Segments are not adjacent: [%d, %d) and [%d, %d)",
+                offset, offset + length, right.offset, right.offset + right.length));
+        }
+
+        long prefix = bestPrefix;
+        long prefixAt = prefixEnd;
+        if (total + right.bestPrefix > bestPrefix) {
+            prefix = total + right.bestPrefix;
+            prefixAt = right.prefixEnd;
+        }
+
+        // Ties prefer the longer suffix, matching Kadane's earliest restart
+        long suffix = right.bestSuffix;
+        long suffixAt = right.suffixStart;
+        if (right.total + bestSuffix >= right.bestSuffix) {
+            suffix = right.total + bestSuffix;
+            suffixAt = suffixStart;
+        }
+
+        // Best subarray ending in the right segment: crossing or internal
+        long cross = bestSuffix + right.bestPrefix;
+        long rightBest = right.bestSum;
+        long rightStart = right.bestStart;
+        long rightEnd = right.bestEnd;
+        if (cross > rightBest || (cross == rightBest && right.prefixEnd <= right.bestEnd)) {
+            rightBest = cross;
+            rightStart = suffixStart;
+            rightEnd = right.prefixEnd;
+        }
+
+        // Left wins ties because its end index is earlier
+        long best = bestSum;
+        long start = bestStart;
+        long end = bestEnd;
+        if (rightBest > bestSum) {
+            best = rightBest;
+            start = rightStart;
+            end = rightEnd;
+        }
+
+        return new SubarraySummary(offset, length + right.length, total + right.total,
+            prefix, prefixAt, suffix, suffixAt, best, start, end);
+    }
+
+    /**
+     * Merges summaries of consecutive segments given in order
+     */
+    public static SubarraySummary mergeAll(List<SubarraySummary> summaries) {
+        if (summaries == null || summaries.isEmpty()) {
+            throw new IllegalArgumentException("Summaries cannot be null or empty");
+        }
+        SubarraySummary merged = summaries.get(0);
+        for (int i = 1; i < summaries.size(); i++) {
+            merged = merged.merge(summaries.get(i));
+        }
+        return merged;
+    }
+
+    /**
+     * Converts to the optimized result type
+     *
+     * @throws ArithmeticException if the indices do not fit in an int
+     */
+    public KadaneAlgorithmOptimized.Result toResult(PerformanceTracker metrics) {
+        return new KadaneAlgorithmOptimized.Result(bestSum,
+            Math.toIntExact(bestStart), Math.toIntExact(bestEnd), metrics);
+    }
+
+    /**
+     * Single-line, whitespace-separated encoding used between processes
+     */
+    public String toWireFormat() {
+        return offset + " " + length + " " + total + " "
+            + bestPrefix + " " + prefixEnd + " "
+            + bestSuffix + " " + suffixStart + " "
+            + bestSum + " " + bestStart + " " + bestEnd;
+    }
+
+    public static SubarraySummary fromWireFormat(String line) {
+        String[] parts = line.trim().split("\\s+");
+        if (parts.length != 10) {
+            throw new IllegalArgumentException("Malformed summary: " + line);
+        }
+        long[] v = new long[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            v[i] = Long.parseLong(parts[i]);
+        }
+        return new SubarraySummary(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Segment: [%d, %d), Total: %d, MaxSum: %d, Range: [%d, %d]",
+            offset, offset + length, total, bestSum, bestStart, bestEnd);
+    }
+
+    /**
+     * Single-pass accumulator that builds a summary from streamed values
+     */
+    public static final class Builder {
+        private final long offset;
+        private long count;
+        private long total;
+        private long prefix;
+        private long prefixEnd;
+        private long minPrefixBefore;   // Smallest running total seen before an element
+        private long minPrefixIndex;
+        private long currentSum;
+        private long tempStart;
+        private long best;
+        private long bestStart;
+        private long bestEnd;
+
+        public Builder(long offset) {
+            this.offset = offset;
+            this.tempStart = offset;
+        }
+
+        public Builder add(int value) {
+            long i = offset + count;
+
+            // Suffix starting at i has sum (total of segment) - (total before i)
+            if (count == 0 || total < minPrefixBefore) {
+                minPrefixBefore = total;
+                minPrefixIndex = i;
+            }
+
+            if (currentSum < 0) {
+                currentSum = value;
+                tempStart = i;
+            } else {
+                currentSum += value;
+            }
+            if (count == 0 || currentSum > best) {
+                best = currentSum;
+                bestStart = tempStart;
+                bestEnd = i;
+            }
+
+            total += value;
+            if (count == 0 || total > prefix) {
+                prefix = total;
+                prefixEnd = i;
+            }
+            count++;
+            return this;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public SubarraySummary build() {
+            return new SubarraySummary(offset, count, total, prefix, prefixEnd,
+                total - minPrefixBefore, minPrefixIndex, best, bestStart, bestEnd);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package algorithms.engines;
+
+import algorithms.MaxSubarrayEngine;
+import algorithms.MaxSubarrayResult;
+import algorithms.SubarrayStatistics;
+
+/**
+ * Engine for {@link SubarrayStatistics#compute(int[])}, reporting only the
+ * maximum subarray
+ */
+public class FusedKernelEngine implements MaxSubarrayEngine {
+    
+    @Override
+    public String name() {
+        return "SubarrayStatistics.compute";
+    }
+    
+    @Override
+    public MaxSubarrayResult findMaxSubarray(int[] arr) {
+        SubarrayStatistics stats = SubarrayStatistics.compute(arr);
+        return new MaxSubarrayResult(stats.maxSum, stats.maxStart, stats.maxEnd, stats.metrics);
+    }
+}
@@ -0,0 +1,27 @@
+package algorithms.engines;
+
+import algorithms.KadaneAlgorithm;
+import algorithms.MaxSubarrayEngine;
+import algorithms.MaxSubarrayResult;
+
+/**
+ * Engine for {@link KadaneAlgorithm#findMaxSubarrayOptimized(int[])},
+ * which first checks for an all-negative array
+ */
+public class KadaneEarlyExitEngine implements MaxSubarrayEngine {
+    
+    @Override
+    public String name() {
+        return "KadaneAlgorithm.findMaxSubarrayOptimized";
+    }
+    
+    @Override
+    public MaxSubarrayResult findMaxSubarray(int[] arr) {
+        return MaxSubarrayResult.of(KadaneAlgorithm.findMaxSubarrayOptimized(arr));
+    }
+    
+    @Override
+    public boolean isOverflowSafe() {
+        return false;   // Accumulates in int
+    }
+}
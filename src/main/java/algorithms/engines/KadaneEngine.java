@@ -0,0 +1,26 @@
+package algorithms.engines;
+
+import algorithms.KadaneAlgorithm;
+import algorithms.MaxSubarrayEngine;
+import algorithms.MaxSubarrayResult;
+
+/**
+ * Engine for {@link KadaneAlgorithm#findMaxSubarray(int[])}
+ */
+public class KadaneEngine implements MaxSubarrayEngine {
+    
+    @Override
+    public String name() {
+        return "KadaneAlgorithm.findMaxSubarray";
+    }
+    
+    @Override
+    public MaxSubarrayResult findMaxSubarray(int[] arr) {
+        return MaxSubarrayResult.of(KadaneAlgorithm.findMaxSubarray(arr));
+    }
+    
+    @Override
+    public boolean isOverflowSafe() {
+        return false;   // Accumulates in int
+    }
+}
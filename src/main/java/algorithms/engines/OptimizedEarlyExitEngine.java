@@ -0,0 +1,22 @@
+package algorithms.engines;
+
+import algorithms.KadaneAlgorithmOptimized;
+import algorithms.MaxSubarrayEngine;
+import algorithms.MaxSubarrayResult;
+
+/**
+ * Engine for {@link KadaneAlgorithmOptimized#findMaxSubarrayWithEarlyTermination(int[])},
+ * which first checks for an all-negative array
+ */
+public class OptimizedEarlyExitEngine implements MaxSubarrayEngine {
+    
+    @Override
+    public String name() {
+        return "KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination";
+    }
+    
+    @Override
+    public MaxSubarrayResult findMaxSubarray(int[] arr) {
+        return MaxSubarrayResult.of(KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination(arr));
+    }
+}
@@ -0,0 +1,21 @@
+package algorithms.engines;
+
+import algorithms.KadaneAlgorithmOptimized;
+import algorithms.MaxSubarrayEngine;
+import algorithms.MaxSubarrayResult;
+
+/**
+ * Engine for {@link KadaneAlgorithmOptimized#findMaxSubarray(int[])}
+ */
+public class OptimizedKadaneEngine implements MaxSubarrayEngine {
+    
+    @Override
+    public String name() {
+        return "KadaneAlgorithmOptimized.findMaxSubarray";
+    }
+    
+    @Override
+    public MaxSubarrayResult findMaxSubarray(int[] arr) {
+        return MaxSubarrayResult.of(KadaneAlgorithmOptimized.findMaxSubarray(arr));
+    }
+}
@@ -1,83 +1,72 @@
 package cli;
 
-import algorithms.KadaneAlgorithm;
-import algorithms.KadaneAlgorithmOptimized;
+import algorithms.MaxSubarrayEngine;
+import algorithms.MaxSubarrayEngines;
+import algorithms.MaxSubarrayResult;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
 
-import java.util.Random;
+import java.util.List;
 
 /**
- * Compare original vs optimized implementation
+ * Compare all registered engines against the first (original) one
  */
 public class BenchmarkComparison {
-    
+
     public static void main(String[] args) {
-        System.out.println("=== Kadane's Algorithm: Original vs Optimized ===\n");
-        
+        System.out.println("=== Kadane's Algorithm: Engine Comparison ===\n");
+
         int[] sizes = {1000, 5000, 10000, 50000, 100000};
-        
-        System.out.println("Performance Comparison:");
-        System.out.println("-".repeat(80));
-        System.out.printf("%-10s | %-15s | %-15s | %-15s%n", 
-            "Size", "Original (ms)", "Optimized (ms)", "Improvement");
-        System.out.println("-".repeat(80));
-        
+        InputGenerator generator = new InputGenerator(InputGenerator.DEFAULT_SEED);
+        List<MaxSubarrayEngine> engines = MaxSubarrayEngines.all();
+        MaxSubarrayEngine reference = engines.get(0);
+
+        System.out.println("Performance Comparison (improvement vs " + reference.name() + "):");
+        System.out.println("-".repeat(100));
+        System.out.printf("%-10s | %-62s | %-10s | %-12s%n",
+            "Size", "Engine", "Time (ms)", "Improvement");
+        System.out.println("-".repeat(100));
+
         for (int size : sizes) {
-            int[] arr = generateRandomArray(size, -1000, 1000);
-            
-            // Test original
-            long startOrig = System.nanoTime();
-            KadaneAlgorithm.Result origResult = KadaneAlgorithm.findMaxSubarray(arr);
-            long endOrig = System.nanoTime();
-            double timeOrig = (endOrig - startOrig) / 1_000_000.0;
-            
-            // Test optimized
-            long startOpt = System.nanoTime();
-            KadaneAlgorithmOptimized.Result optResult = KadaneAlgorithmOptimized.findMaxSubarray(arr);
-            long endOpt = System.nanoTime();
-            double timeOpt = (endOpt - startOpt) / 1_000_000.0;
-            
-            // Verify correctness
-            if (origResult.maxSum != optResult.maxSum) {
-                System.err.println("ERROR: Results don't match!");
-                System.exit(1);
+            int[] arr = generator.generate(Distribution.RANDOM, size);
+
+            long startRef = System.nanoTime();
+            MaxSubarrayResult refResult = reference.findMaxSubarray(arr);
+            double timeRef = (System.nanoTime() - startRef) / 1_000_000.0;
+            System.out.printf("%-10d | %-62s | %-10.4f | %-12s%n", size, reference.name(), timeRef, "-");
+
+            for (MaxSubarrayEngine engine : engines.subList(1, engines.size())) {
+                long start = System.nanoTime();
+                MaxSubarrayResult result = engine.findMaxSubarray(arr);
+                double time = (System.nanoTime() - start) / 1_000_000.0;
+
+                // Verify correctness
+                if (result.maxSum != refResult.maxSum
+                        || result.startIndex != refResult.startIndex
+                        || result.endIndex != refResult.endIndex) {
+                    System.err.println("ERROR: Results don't match for " + engine.name() + "!");
+                    System.exit(1);
+                }
+
+                double improvement = ((timeRef - time) / timeRef) * 100;
+                System.out.printf("%-10s | %-62s | %-10.4f | %+.2f%%%n", "", engine.name(), time, improvement);
             }
-            
-            double improvement = ((timeOrig - timeOpt) / timeOrig) * 100;
-            
-            System.out.printf("%-10d | %-15.4f | %-15.4f | %+.2f%%%n",
-                size, timeOrig, timeOpt, improvement);
         }
-        
-        System.out.println("-".repeat(80));
+
+        System.out.println("-".repeat(100));
         System.out.println("\nArray Access Comparison:");
-        System.out.println("-".repeat(60));
-        
+        System.out.println("-".repeat(100));
+
         int testSize = 10000;
-        int[] testArr = generateRandomArray(testSize, -1000, 1000);
-        
-        KadaneAlgorithm.Result origResult = KadaneAlgorithm.findMaxSubarray(testArr);
-        KadaneAlgorithmOptimized.Result optResult = KadaneAlgorithmOptimized.findMaxSubarray(testArr);
-        
-        System.out.printf("Original - Array Accesses: %d (%.2f per element)%n",
-            origResult.metrics.getArrayAccesses(),
-            (double) origResult.metrics.getArrayAccesses() / testSize);
-        
-        System.out.printf("Optimized - Array Accesses: %d (%.2f per element)%n",
-            optResult.metrics.getArrayAccesses(),
-            (double) optResult.metrics.getArrayAccesses() / testSize);
-        
-        long reduction = origResult.metrics.getArrayAccesses() - optResult.metrics.getArrayAccesses();
-        double reductionPercent = ((double) reduction / origResult.metrics.getArrayAccesses()) * 100;
-        
-        System.out.printf("Reduction: %d accesses (%.2f%%)%n", reduction, reductionPercent);
-    }
-    
-    private static int[] generateRandomArray(int size, int min, int max) {
-        Random random = new Random();
-        int[] arr = new int[size];
-        for (int i = 0; i < size; i++) {
-            arr[i] = random.nextInt(max - min + 1) + min;
+        int[] testArr = generator.generate(Distribution.RANDOM, testSize);
+        long refAccesses = reference.findMaxSubarray(testArr).metrics.getArrayAccesses();
+
+        for (MaxSubarrayEngine engine : engines) {
+            long accesses = engine.findMaxSubarray(testArr).metrics.getArrayAccesses();
+            long reduction = refAccesses - accesses;
+            System.out.printf("%-62s - Array Accesses: %d (%.2f per element), reduction %d (%.2f%%)%n",
+                engine.name(), accesses, (double) accesses / testSize,
+                reduction, (double) reduction / refAccesses * 100);
         }
-        return arr;
     }
 }
@@ -1,12 +1,14 @@
 package cli;
 
 import algorithms.KadaneAlgorithm;
-import metrics.PerformanceTracker;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import metrics.WarmupProfile;
 
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.Random;
+import java.util.Locale;
 
 /**
  * Command-line interface for benchmarking Kadane's Algorithm
@@ -51,10 +53,16 @@ public class BenchmarkRunner {
         int[] sizes = {10, 50, 100, 500, 1000};
         
         for (int size : sizes) {
-            int[] arr = generateRandomArray(size, -100, 100);
+            int[] arr = new InputGenerator(InputGenerator.DEFAULT_SEED, -100, 100)
+                .generate(Distribution.RANDOM, size);
+            
+            // Profile before any other call on this input so "Cold" is its first call;
+            // later sizes still reuse code compiled for earlier ones
+            WarmupProfile profile = WarmupProfile.measure(() -> KadaneAlgorithm.findMaxSubarray(arr).metrics);
             KadaneAlgorithm.Result result = KadaneAlgorithm.findMaxSubarray(arr);
             
             System.out.printf("n=%5d | %s\n", size, result.metrics);
+            System.out.printf("        | %s\n", profile);
         }
     }
     
@@ -65,14 +73,29 @@ public class BenchmarkRunner {
         int[] sizes = {100, 500, 1000, 5000, 10000, 50000, 100000};
         int runsPerSize = 10;
         
-        try (PrintWriter writer = new PrintWriter(new FileWriter("data/benchmark_results.csv"))) {
+        try (PrintWriter writer = new PrintWriter(new FileWriter("data/benchmark_results.csv"));
+             PrintWriter warmup = new PrintWriter(new FileWriter("data/warmup_results.csv"))) {
             writer.println("InputSize,Run,Comparisons,ArrayAccesses,TimeMs,MemoryBytes");
+            warmup.println("InputSize,ColdMs,WarmupIterations,WarmupMeanMs,SteadyMedianMs,CompileMs,SteadyReached");
             
             for (int size : sizes) {
                 System.out.printf("Testing n=%d...\n", size);
                 
+                // Reach steady state first so the recorded runs measure compiled code
+                int[] warmupArr = runGenerator(0).generate(Distribution.RANDOM, size);
+                WarmupProfile profile = WarmupProfile.measure(
+                    () -> KadaneAlgorithm.findMaxSubarray(warmupArr).metrics);
+                System.out.println("  " + profile);
+                // Only the first size runs before any JIT compilation; later sizes reuse
+                // compiled code, so their first call is not a cold start and is left empty
+                String coldMs = size == sizes[0] ? String.format(Locale.ROOT, "%.6f", profile.coldNanos / 1e6) : "";
+                warmup.printf(Locale.ROOT, "%d,%s,%d,%.6f,%.6f,%d,%b\n",
+                    size, coldMs, profile.warmupIterations,
+                    profile.warmupMeanNanos / 1e6, profile.steadyMedianNanos / 1e6,
+                    profile.compileMillis, profile.steady);
+                
                 for (int run = 0; run < runsPerSize; run++) {
-                    int[] arr = generateRandomArray(size, -1000, 1000);
+                    int[] arr = runGenerator(run).generate(Distribution.RANDOM, size);
                     KadaneAlgorithm.Result result = KadaneAlgorithm.findMaxSubarray(arr);
                     
                     writer.printf("%d,%d,%d,%d,%.6f,%d\n",
@@ -86,6 +109,7 @@ public class BenchmarkRunner {
             }
             
             System.out.println("\n✅ Results saved to data/benchmark_results.csv");
+            System.out.println("✅ Warm-up profiles saved to data/warmup_results.csv");
             
         } catch (IOException e) {
             System.err.println("Error writing results: " + e.getMessage());
@@ -104,37 +128,16 @@ public class BenchmarkRunner {
         try (PrintWriter writer = new PrintWriter(new FileWriter("data/distribution_results.csv"))) {
             writer.println("Distribution,Run,Comparisons,ArrayAccesses,TimeMs");
             
-            // Random distribution
-            System.out.println("Testing random distribution...");
-            for (int i = 0; i < runs; i++) {
-                int[] arr = generateRandomArray(size, -1000, 1000);
-                KadaneAlgorithm.Result result = KadaneAlgorithm.findMaxSubarray(arr);
-                writer.printf("Random,%d,%d,%d,%.6f\n", i + 1,
-                    result.metrics.getComparisons(),
-                    result.metrics.getArrayAccesses(),
-                    result.metrics.getExecutionTimeMillis());
-            }
-            
-            // All positive
-            System.out.println("Testing all positive...");
-            for (int i = 0; i < runs; i++) {
-                int[] arr = generateRandomArray(size, 1, 1000);
-                KadaneAlgorithm.Result result = KadaneAlgorithm.findMaxSubarray(arr);
-                writer.printf("AllPositive,%d,%d,%d,%.6f\n", i + 1,
-                    result.metrics.getComparisons(),
-                    result.metrics.getArrayAccesses(),
-                    result.metrics.getExecutionTimeMillis());
-            }
-            
-            // All negative
-            System.out.println("Testing all negative...");
-            for (int i = 0; i < runs; i++) {
-                int[] arr = generateRandomArray(size, -1000, -1);
-                KadaneAlgorithm.Result result = KadaneAlgorithm.findMaxSubarray(arr);
-                writer.printf("AllNegative,%d,%d,%d,%.6f\n", i + 1,
-                    result.metrics.getComparisons(),
-                    result.metrics.getArrayAccesses(),
-                    result.metrics.getExecutionTimeMillis());
+            for (Distribution distribution : Distribution.values()) {
+                System.out.println("Testing " + distribution.label() + "...");
+                for (int i = 0; i < runs; i++) {
+                    int[] arr = runGenerator(i).generate(distribution, size);
+                    KadaneAlgorithm.Result result = KadaneAlgorithm.findMaxSubarray(arr);
+                    writer.printf("%s,%d,%d,%d,%.6f\n", distribution.label(), i + 1,
+                        result.metrics.getComparisons(),
+                        result.metrics.getArrayAccesses(),
+                        result.metrics.getExecutionTimeMillis());
+                }
             }
             
             System.out.println("\n✅ Distribution results saved to data/distribution_results.csv");
@@ -144,13 +147,11 @@ public class BenchmarkRunner {
         }
     }
     
-    private static int[] generateRandomArray(int size, int min, int max) {
-        Random random = new Random();
-        int[] arr = new int[size];
-        for (int i = 0; i < size; i++) {
-            arr[i] = random.nextInt(max - min + 1) + min;
-        }
-        return arr;
+    /**
+     * Each run gets its own reproducible seed so runs differ but reruns match
+     */
+    private static InputGenerator runGenerator(int run) {
+        return new InputGenerator(InputGenerator.DEFAULT_SEED + run);
     }
     
     private static void printArray(int[] arr) {
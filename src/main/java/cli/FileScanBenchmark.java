@@ -0,0 +1,156 @@
+package cli;
+
+import algorithms.KadaneState;
+import algorithms.SubarraySummary;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import storage.CheckpointedScan;
+import storage.DeltaVarintFormat;
+import storage.Int32FileScanner;
+import storage.ScanCheckpoint.FsyncPolicy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * End-to-end file scan throughput: raw int32 vs delta-varint encoding
+ *
+ * Generates an input, writes it both as raw int32 and in
+ * {@link DeltaVarintFormat}, then times a full scan of each, plus raw
+ * scans with periodic checkpoints to measure their overhead. Throughput is
+ * reported both as logical MB/s (4 bytes per element) and as MB/s of the
+ * stored file. By default the files were just written and scanned, so
+ * every run reads from the OS page cache and measures decode speed, not
+ * the disk. For cold data pass --drop-caches (Linux, needs root), which
+ * syncs and drops the page cache before every run, or use an input larger
+ * than RAM.
+ *
+ * Usage: FileScanBenchmark [elements] [distribution] [directory] [--drop-caches]
+ */
+public class FileScanBenchmark {
+
+    private static final int RUNS = 5;
+    private static final long CHECKPOINT_INTERVAL = 1L << 20;
+    private static final Path DROP_CACHES = Paths.get("/proc/sys/vm/drop_caches");
+
+    private static boolean dropCaches;
+
+    public static void main(String[] args) {
+        dropCaches = Arrays.asList(args).contains("--drop-caches");
+        args = Arrays.stream(args).filter(arg -> !arg.equals("--drop-caches")).toArray(String[]::new);
+        long elements = args.length > 0 ? Long.parseLong(args[0]) : 50_000_000L;
+        Distribution distribution = args.length > 1
+            ? Distribution.fromLabel(args[1]) : Distribution.TRENDING_WALK;
+        Path dir = Paths.get(args.length > 2 ? args[2] : "data");
+
+        System.out.println("=== File Scan Throughput: Raw int32 vs Delta-Varint ===\n");
+
+        try {
+            Path raw = dir.resolve("scan_input.bin");
+            Path encoded = dir.resolve("scan_input.kdv");
+            new InputGenerator(InputGenerator.DEFAULT_SEED).writeFile(distribution, elements, raw);
+            DeltaVarintFormat.encode(raw, encoded, DeltaVarintFormat.DEFAULT_BLOCK_SIZE);
+
+            long rawBytes = Files.size(raw);
+            long encodedBytes = Files.size(encoded);
+            System.out.printf("Elements: %d (%s), raw: %.1f MB, encoded: %.1f MB (%.2f bytes/element)%n%n",
+                elements, distribution.label(), rawBytes / 1e6, encodedBytes / 1e6,
+                (double) encodedBytes / elements);
+
+            KadaneState expected = Int32FileScanner.scan(raw, new KadaneState());
+
+            System.out.println(dropCaches
+                ? "Page cache: dropped before every run (cold reads)"
+                : "Page cache: warm, files were just written (pass --drop-caches for cold reads)");
+            System.out.println("-".repeat(90));
+            System.out.printf("%-22s | %-11s | %-11s | %-16s | %-16s%n",
+                "Path", "First (ms)", "Best (ms)", "Logical (MB/s)", "Stored (MB/s)");
+            System.out.println("-".repeat(90));
+
+            report("Raw int32", elements, rawBytes, () -> check(expected,
+                Int32FileScanner.scan(raw, new KadaneState())));
+            Path checkpoint = dir.resolve("scan_input.ckpt");
+            for (FsyncPolicy policy : FsyncPolicy.values()) {
+                CheckpointedScan scan = new CheckpointedScan(checkpoint, CHECKPOINT_INTERVAL, policy);
+                report("Raw + checkpoint " + policy, elements, rawBytes, () -> check(expected,
+                    scan.scan(raw)));
+            }
+            report("Delta-varint", elements, encodedBytes, () -> check(expected,
+                DeltaVarintFormat.scan(encoded, new KadaneState())));
+            report("Delta-varint parallel", elements, encodedBytes, () -> check(expected,
+                DeltaVarintFormat.summarize(encoded)));
+
+            System.out.println("-".repeat(90));
+            System.out.printf("MB/s use the best of %d runs; checkpoints every %d elements%n", RUNS,
+                CHECKPOINT_INTERVAL);
+            System.out.println("\n✅ All paths agree: " + expected);
+
+            Files.deleteIfExists(raw);
+            Files.deleteIfExists(encoded);
+        } catch (IOException e) {
+            System.err.println("Benchmark failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private interface Scan {
+        void run() throws IOException;
+    }
+
+    private static void report(String name, long elements, long fileBytes, Scan scan) throws IOException {
+        long first = 0;
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            if (dropCaches) {
+                dropPageCache();
+            }
+            long start = System.nanoTime();
+            scan.run();
+            long nanos = System.nanoTime() - start;
+            if (run == 0) {
+                first = nanos;
+            }
+            best = Math.min(best, nanos);
+        }
+        double seconds = best / 1e9;
+        System.out.printf("%-22s | %-11.3f | %-11.3f | %-16.1f | %-16.1f%n", name, first / 1e6,
+            best / 1e6, elements * Integer.BYTES / 1e6 / seconds, fileBytes / 1e6 / seconds);
+    }
+
+    /**
+     * Flushes dirty pages, then drops clean ones so the next read hits the disk
+     */
+    private static void dropPageCache() throws IOException {
+        try {
+            Process sync = new ProcessBuilder("sync").inheritIO().start();
+            if (sync.waitFor() != 0) {
+                throw new IOException("sync failed");
+            }
+            Files.writeString(DROP_CACHES, "3");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while dropping the page cache", e);
+        } catch (IOException e) {
+            throw new IOException("Cannot drop the page cache (needs Linux and root): " + e.getMessage(), e);
+        }
+    }
+
+    private static void check(KadaneState expected, KadaneState actual) {
+        if (expected.getBestSum() != actual.getBestSum()
+                || expected.getBestStart() != actual.getBestStart()
+                || expected.getBestEnd() != actual.getBestEnd()) {
+            throw new IllegalStateException("Results don't match: " + expected + " vs " + actual);
+        }
+    }
+
+    private static void check(KadaneState expected, SubarraySummary actual) {
+        if (expected.getBestSum() != actual.bestSum
+                || expected.getBestStart() != actual.bestStart
+                || expected.getBestEnd() != actual.bestEnd) {
+            throw new IllegalStateException("Results don't match: " + expected + " vs " + actual);
+        }
+    }
+}
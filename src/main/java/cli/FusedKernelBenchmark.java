@@ -0,0 +1,172 @@
+package cli;
+
+import algorithms.KadaneAlgorithmOptimized;
+import algorithms.SubarrayStatistics;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+
+/**
+ * Fused single-pass kernel vs the multi-pass approach on arrays larger
+ * than the last-level cache
+ *
+ * Each variant computes the same four statistics (max subarray, min
+ * subarray, total, all-negative):
+ *   Multi-pass (engines)  - findMaxSubarrayWithEarlyTermination, then a
+ *                           min-subarray pass and a total pass
+ *   Multi-pass (plain)    - the same four passes without metric counters
+ *   Fused                 - {@link SubarrayStatistics#compute(int[])}
+ * Speedup is relative to Multi-pass (plain), so it isolates the gain
+ * from fusing passes; the engines row also pays per-element metric
+ * counters. The default of 64M elements (256 MB) is meant to exceed L3;
+ * pass a larger count on machines with bigger caches.
+ *
+ * Usage: FusedKernelBenchmark [elements] [distribution...]
+ */
+public class FusedKernelBenchmark {
+
+    private static final int RUNS = 7;
+
+    public static void main(String[] args) {
+        int elements = args.length > 0 ? Integer.parseInt(args[0]) : 64 * 1024 * 1024;
+        Distribution[] distributions = {Distribution.RANDOM, Distribution.ALL_NEGATIVE, Distribution.TRENDING_WALK};
+        if (args.length > 1) {
+            distributions = new Distribution[args.length - 1];
+            for (int i = 1; i < args.length; i++) {
+                distributions[i - 1] = Distribution.fromLabel(args[i]);
+            }
+        }
+
+        System.out.println("=== Fused Kernel vs Multi-Pass ===\n");
+        System.out.printf("Elements: %d (%.0f MB), best of %d runs%n%n",
+            elements, elements * (double) Integer.BYTES / 1e6, RUNS);
+        System.out.println("-".repeat(84));
+        System.out.printf("%-16s | %-22s | %-10s | %-12s | %-12s%n",
+            "Distribution", "Variant", "Best (ms)", "Input GB/s", "vs plain");
+        System.out.println("-".repeat(84));
+
+        InputGenerator generator = new InputGenerator(InputGenerator.DEFAULT_SEED);
+        for (Distribution distribution : distributions) {
+            int[] arr = generator.generate(distribution, elements);
+            SubarrayStatistics expected = SubarrayStatistics.compute(arr);
+
+            long engines = best(() -> {
+                KadaneAlgorithmOptimized.Result max = KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination(arr);
+                long start = System.nanoTime();
+                long[] min = minSubarray(arr);
+                long total = total(arr);
+                long rest = System.nanoTime() - start;
+                check(expected, max.maxSum, max.startIndex, max.endIndex, min, total);
+                return max.metrics.getExecutionTimeNanos() + rest;
+            });
+            long plain = best(() -> {
+                long start = System.nanoTime();
+                boolean allNegative = allNegative(arr);
+                long[] max = maxSubarray(arr);
+                long[] min = minSubarray(arr);
+                long total = total(arr);
+                long nanos = System.nanoTime() - start;
+                check(expected, max[0], (int) max[1], (int) max[2], min, total);
+                if (allNegative != expected.isAllNegative()) {
+                    throw new IllegalStateException("All-negative flags don't match");
+                }
+                return nanos;
+            });
+            long fused = best(() -> SubarrayStatistics.compute(arr).metrics.getExecutionTimeNanos());
+
+            report(distribution.label(), "Multi-pass (engines)", elements, engines, plain);
+            report("", "Multi-pass (plain)", elements, plain, plain);
+            report("", "Fused", elements, fused, plain);
+        }
+
+        System.out.println("-".repeat(84));
+        System.out.println("\n✅ All variants agree");
+    }
+
+    private interface TimedRun {
+        long nanos();
+    }
+
+    private static long best(TimedRun run) {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            best = Math.min(best, run.nanos());
+        }
+        return Math.max(1, best);
+    }
+
+    private static void report(String distribution, String variant, int elements, long nanos, long baseline) {
+        System.out.printf("%-16s | %-22s | %-10.2f | %-12.2f | %.2fx%n", distribution, variant,
+            nanos / 1e6, elements * (double) Integer.BYTES / nanos, (double) baseline / nanos);
+    }
+
+    private static void check(SubarrayStatistics expected, long maxSum, int maxStart, int maxEnd,
+                              long[] min, long total) {
+        if (expected.maxSum != maxSum || expected.maxStart != maxStart || expected.maxEnd != maxEnd
+                || expected.minSum != min[0] || expected.minStart != min[1] || expected.minEnd != min[2]
+                || expected.total != total) {
+            throw new IllegalStateException("Results don't match: " + expected);
+        }
+    }
+
+    private static boolean allNegative(int[] arr) {
+        for (int value : arr) {
+            if (value >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Same tie-breaking as the engines: earliest end, then earliest start
+    private static long[] maxSubarray(int[] arr) {
+        long best = arr[0];
+        long current = arr[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+        for (int i = 1; i < arr.length; i++) {
+            if (current < 0) {
+                current = arr[i];
+                tempStart = i;
+            } else {
+                current += arr[i];
+            }
+            if (current > best) {
+                best = current;
+                start = tempStart;
+                end = i;
+            }
+        }
+        return new long[]{best, start, end};
+    }
+
+    private static long[] minSubarray(int[] arr) {
+        long best = arr[0];
+        long current = arr[0];
+        int start = 0;
+        int end = 0;
+        int tempStart = 0;
+        for (int i = 1; i < arr.length; i++) {
+            if (current > 0) {
+                current = arr[i];
+                tempStart = i;
+            } else {
+                current += arr[i];
+            }
+            if (current < best) {
+                best = current;
+                start = tempStart;
+                end = i;
+            }
+        }
+        return new long[]{best, start, end};
+    }
+
+    private static long total(int[] arr) {
+        long total = 0;
+        for (int value : arr) {
+            total += value;
+        }
+        return total;
+    }
+}
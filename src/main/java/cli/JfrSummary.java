@@ -0,0 +1,143 @@
+package cli;
+
+import algorithms.MaxSubarrayEngine;
+import algorithms.MaxSubarrayEngines;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import metrics.EngineInvocationEvent;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarizes {@link EngineInvocationEvent}s in a .jfr recording
+ *
+ * Prints a latency table per engine, per engine/path and per thread.
+ * The record mode runs a small workload under a recording with the
+ * threshold set to 0 so every call is captured.
+ *
+ * Usage:
+ *   JfrSummary &lt;recording.jfr&gt;
+ *   JfrSummary record &lt;recording.jfr&gt;
+ *
+ * Recording a real application with every call captured (kadane.jfc sets
+ * the event threshold to 0 ms):
+ *   java -XX:StartFlightRecording=filename=app.jfr,settings=default,settings=src/main/resources/kadane.jfc ...
+ */
+public class JfrSummary {
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage:");
+            System.out.println("  JfrSummary <recording.jfr>");
+            System.out.println("  JfrSummary record <recording.jfr>");
+            System.exit(2);
+        }
+
+        try {
+            if (args[0].equals("record") && args.length > 1) {
+                record(Paths.get(args[1]));
+                summarize(Paths.get(args[1]));
+            } else {
+                summarize(Paths.get(args[0]));
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading recording: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void record(Path file) throws IOException {
+        System.out.println("Recording sample workload to " + file + "...\n");
+        try (Recording recording = new Recording()) {
+            recording.enable(EngineInvocationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+
+            InputGenerator generator = new InputGenerator(InputGenerator.DEFAULT_SEED);
+            for (int size : new int[]{1000, 10000, 100000, 1000000}) {
+                for (Distribution distribution : new Distribution[]{Distribution.RANDOM, Distribution.ALL_NEGATIVE}) {
+                    int[] arr = generator.generate(distribution, size);
+                    for (int run = 0; run < 5; run++) {
+                        for (MaxSubarrayEngine engine : MaxSubarrayEngines.all()) {
+                            engine.findMaxSubarray(arr);
+                        }
+                    }
+                }
+            }
+
+            recording.stop();
+            recording.dump(file);
+        }
+    }
+
+    private static void summarize(Path file) throws IOException {
+        Map<String, List<Long>> byEngine = new TreeMap<>();
+        Map<String, List<Long>> byPath = new TreeMap<>();
+        Map<String, List<Long>> byThread = new TreeMap<>();
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            if (!event.getEventType().getName().equals(EngineInvocationEvent.NAME)) {
+                continue;
+            }
+            long nanos = event.getDuration().toNanos();
+            String engine = event.getString("engine");
+            byEngine.computeIfAbsent(engine, k -> new ArrayList<>()).add(nanos);
+            byPath.computeIfAbsent(engine + " [" + event.getString("path") + "]",
+                k -> new ArrayList<>()).add(nanos);
+
+            RecordedThread thread = event.getThread();
+            String threadName = thread == null ? "?" : thread.getJavaName();
+            byThread.computeIfAbsent(threadName, k -> new ArrayList<>()).add(nanos);
+        }
+
+        if (byEngine.isEmpty()) {
+            System.out.println("No " + EngineInvocationEvent.NAME + " events in " + file);
+            return;
+        }
+
+        System.out.println("=== Engine Latency (us) ===\n");
+        printTable("Engine", byEngine);
+        System.out.println("\n=== Engine Latency by Path (us) ===\n");
+        printTable("Engine [path]", byPath);
+        System.out.println("\n=== Latency by Thread (us) ===\n");
+        printTable("Thread", byThread);
+    }
+
+    private static void printTable(String title, Map<String, List<Long>> groups) {
+        int width = Math.max(title.length(), groups.keySet().stream().mapToInt(String::length).max().orElse(0));
+        String format = "%-" + width + "s | %7s | %10s | %10s | %10s | %10s | %10s%n";
+        String rowFormat = "%-" + width + "s | %7d | %10.1f | %10.1f | %10.1f | %10.1f | %10.1f%n";
+
+        System.out.printf(format, title, "Count", "Mean", "p50", "p90", "p99", "Max");
+        System.out.println("-".repeat(width + 72));
+        for (Map.Entry<String, List<Long>> entry : groups.entrySet()) {
+            long[] sorted = entry.getValue().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(sorted);
+            double mean = Arrays.stream(sorted).average().orElse(0);
+            System.out.printf(rowFormat, entry.getKey(), sorted.length,
+                mean / 1000.0,
+                percentile(sorted, 0.50) / 1000.0,
+                percentile(sorted, 0.90) / 1000.0,
+                percentile(sorted, 0.99) / 1000.0,
+                sorted[sorted.length - 1] / 1000.0);
+        }
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double p) {
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -0,0 +1,355 @@
+package cli;
+
+import algorithms.MaxSubarrayEngine;
+import algorithms.MaxSubarrayEngines;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import metrics.PerformanceTracker;
+import metrics.Statistics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Performance regression detector against stored, versioned baselines
+ *
+ * Runs the benchmark suite (every registered engine at every size,
+ * repeated samples) and either stores the samples as
+ * data/baselines/&lt;version&gt;.csv or compares them with a stored
+ * baseline. Each (engine, size) pair is tested with a one-sided
+ * Mann-Whitney U test on throughput and on allocated bytes; a regression
+ * needs both a significant p-value and a median change beyond the
+ * threshold. A baseline pair absent from the current run is reported
+ * as MISSING. Exits 1 if anything regressed or went missing.
+ *
+ * Usage:
+ *   RegressionDetector record &lt;version&gt; [--force]
+ *   RegressionDetector compare &lt;version&gt; [--threshold 0.15] [--alpha 0.01]
+ *   RegressionDetector list
+ */
+public class RegressionDetector {
+
+    private static final Path BASELINE_DIR = Paths.get("data", "baselines");
+    private static final int[] SIZES = {1000, 10000, 100000, 1000000};
+    private static final int WARMUP = 20;
+    private static final int SAMPLES = 25;
+    private static final long ALLOCATION_SLACK_BYTES = 1024;
+
+    private static final String CSV_HEADER = "Engine,Size,Sample,ElementsPerSec,AllocatedBytes";
+
+    /**
+     * Samples for one engine at one input size
+     */
+    static final class Series {
+        final List<Double> throughput = new ArrayList<>();
+        final List<Double> allocated = new ArrayList<>();
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            printUsage();
+            System.exit(2);
+        }
+
+        try {
+            switch (args[0]) {
+                case "record" -> {
+                    if (args.length < 2) {
+                        printUsage();
+                        System.exit(2);
+                    }
+                    boolean force = args.length > 2 && args[2].equals("--force");
+                    record(args[1], force);
+                }
+                case "compare" -> {
+                    if (args.length < 2) {
+                        printUsage();
+                        System.exit(2);
+                    }
+                    double threshold = 0.15;
+                    double alpha = 0.01;
+                    for (int i = 2; i < args.length; i++) {
+                        switch (args[i]) {
+                            case "--threshold" -> threshold = Double.parseDouble(args[++i]);
+                            case "--alpha" -> alpha = Double.parseDouble(args[++i]);
+                            default -> {
+                                printUsage();
+                                System.exit(2);
+                            }
+                        }
+                    }
+                    boolean regressed = compare(args[1], threshold, alpha);
+                    System.exit(regressed ? 1 : 0);
+                }
+                case "list" -> list();
+                default -> {
+                    printUsage();
+                    System.exit(2);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.exit(2);
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage:");
+        System.out.println("  RegressionDetector record <version> [--force]");
+        System.out.println("  RegressionDetector compare <version> [--threshold 0.15] [--alpha 0.01]");
+        System.out.println("  RegressionDetector list");
+    }
+
+    private static void record(String version, boolean force) throws IOException {
+        Path file = baselineFile(version);
+        if (Files.exists(file) && !force) {
+            throw new IOException("Baseline " + version + " already exists (use --force to overwrite)");
+        }
+
+        Map<String, Series> results = runSuite();
+        Files.createDirectories(BASELINE_DIR);
+        writeBaseline(file, version, results);
+        System.out.println("\n✅ Baseline saved to " + file);
+    }
+
+    /**
+     * @return true if any engine regressed or went missing
+     */
+    private static boolean compare(String version, double threshold, double alpha) throws IOException {
+        Map<String, Series> baseline = load(baselineFile(version));
+        Map<String, Series> current = runSuite();
+
+        System.out.printf("%nComparing against baseline %s (threshold %.0f%%, alpha %.3f)%n%n",
+            version, threshold * 100, alpha);
+        System.out.println("-".repeat(126));
+        System.out.printf("%-70s | %-13s | %-13s | %-8s | %-7s | %s%n",
+            "Engine @ Size", "Base Melem/s", "Now Melem/s", "Change", "p", "Verdict");
+        System.out.println("-".repeat(126));
+
+        List<Row> rows = compare(baseline, current, threshold, alpha);
+        for (Row row : rows) {
+            String key = row.key.replace(",", " @ ");
+            if (Double.isNaN(row.change)) {
+                System.out.printf("%-70s | %-13s | %-13s | %-8s | %-7s | %s%n",
+                    key, "-", "-", "-", "-", row.verdict);
+            } else {
+                System.out.printf("%-70s | %-13.1f | %-13.1f | %+7.1f%% | %-7.4f | %s%n",
+                    key, row.baseMedian / 1e6, row.nowMedian / 1e6, row.change * 100, row.p, row.verdict);
+            }
+        }
+        System.out.println("-".repeat(126));
+
+        boolean regressed = failed(rows);
+        if (regressed) {
+            System.out.println("\n❌ Performance regression detected against " + version);
+        } else {
+            System.out.println("\n✅ No regression against " + version);
+        }
+        return regressed;
+    }
+
+    /**
+     * One (engine, size) line of a comparison; the medians, change and p
+     * are NaN for NEW and MISSING rows
+     */
+    static final class Row {
+        final String key;
+        final double baseMedian;
+        final double nowMedian;
+        final double change;
+        final double p;
+        final String verdict;
+        final boolean failed;
+
+        Row(String key, double baseMedian, double nowMedian, double change, double p,
+            String verdict, boolean failed) {
+            this.key = key;
+            this.baseMedian = baseMedian;
+            this.nowMedian = nowMedian;
+            this.change = change;
+            this.p = p;
+            this.verdict = verdict;
+            this.failed = failed;
+        }
+    }
+
+    /**
+     * Compares every key of either run. Keys only in the current run are
+     * NEW and pass; keys only in the baseline are MISSING and fail, since
+     * an engine that was renamed or dropped from the registry would
+     * otherwise hide a regression.
+     */
+    static List<Row> compare(Map<String, Series> baseline, Map<String, Series> current,
+                             double threshold, double alpha) {
+        List<Row> rows = new ArrayList<>();
+        for (Map.Entry<String, Series> entry : current.entrySet()) {
+            Series base = baseline.get(entry.getKey());
+            if (base == null) {
+                rows.add(new Row(entry.getKey(), Double.NaN, Double.NaN, Double.NaN, Double.NaN, "NEW", false));
+                continue;
+            }
+            Series now = entry.getValue();
+
+            double[] baseTp = toArray(base.throughput);
+            double[] nowTp = toArray(now.throughput);
+            double baseMedian = Statistics.median(baseTp);
+            double nowMedian = Statistics.median(nowTp);
+            double change = (nowMedian - baseMedian) / baseMedian;
+            double p = Statistics.mannWhitneyLess(nowTp, baseTp);
+            boolean slower = p < alpha && change < -threshold;
+
+            // Allocation: regress only if the increase is also above a fixed slack
+            double[] baseAlloc = toArray(base.allocated);
+            double[] nowAlloc = toArray(now.allocated);
+            double baseAllocMedian = Statistics.median(baseAlloc);
+            double nowAllocMedian = Statistics.median(nowAlloc);
+            double allocP = Statistics.mannWhitneyLess(baseAlloc, nowAlloc);
+            boolean allocates = allocP < alpha
+                && nowAllocMedian - baseAllocMedian > ALLOCATION_SLACK_BYTES
+                && nowAllocMedian > baseAllocMedian * (1 + threshold);
+
+            String verdict = "ok";
+            if (slower || allocates) {
+                verdict = "REGRESSION";
+                if (slower) {
+                    verdict += " (throughput)";
+                }
+                if (allocates) {
+                    verdict += String.format(" (allocation %.0f -> %.0f B)", baseAllocMedian, nowAllocMedian);
+                }
+            }
+            rows.add(new Row(entry.getKey(), baseMedian, nowMedian, change, p, verdict, slower || allocates));
+        }
+        for (String key : baseline.keySet()) {
+            if (!current.containsKey(key)) {
+                rows.add(new Row(key, Double.NaN, Double.NaN, Double.NaN, Double.NaN, "MISSING", true));
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * @return true if compare should exit 1
+     */
+    static boolean failed(List<Row> rows) {
+        for (Row row : rows) {
+            if (row.failed) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void list() throws IOException {
+        if (!Files.isDirectory(BASELINE_DIR)) {
+            System.out.println("No baselines recorded");
+            return;
+        }
+        try (Stream<Path> files = Files.list(BASELINE_DIR)) {
+            files.map(p -> p.getFileName().toString())
+                .filter(name -> name.endsWith(".csv"))
+                .sorted()
+                .forEach(name -> System.out.println(name.substring(0, name.length() - 4)));
+        }
+    }
+
+    /**
+     * Runs every engine at every size; keys are "engine,size"
+     */
+    private static Map<String, Series> runSuite() {
+        System.out.println("Running regression benchmark suite...\n");
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        Map<String, Series> results = new LinkedHashMap<>();
+        for (int size : SIZES) {
+            int[] arr = new InputGenerator(InputGenerator.DEFAULT_SEED).generate(Distribution.RANDOM, size);
+            System.out.printf("Testing n=%d...\n", size);
+
+            for (MaxSubarrayEngine engine : MaxSubarrayEngines.all()) {
+                for (int i = 0; i < WARMUP; i++) {
+                    engine.findMaxSubarray(arr);
+                }
+
+                Series series = new Series();
+                for (int i = 0; i < SAMPLES; i++) {
+                    long allocBefore = threads.getThreadAllocatedBytes(threadId);
+                    PerformanceTracker metrics = engine.findMaxSubarray(arr).metrics;
+                    long allocAfter = threads.getThreadAllocatedBytes(threadId);
+
+                    long nanos = Math.max(1, metrics.getExecutionTimeNanos());
+                    series.throughput.add(size * 1e9 / nanos);
+                    series.allocated.add((double) (allocAfter - allocBefore));
+                }
+                results.put(engine.name() + "," + size, series);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Writes samples in CSV form; numbers use Locale.ROOT so they parse back
+     * with Double.parseDouble whatever the default locale
+     */
+    static void writeBaseline(Path file, String version, Map<String, Series> results) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.printf(Locale.ROOT, "# version=%s java=%s recorded=%s%n",
+                version, System.getProperty("java.version"), Instant.now());
+            writer.println(CSV_HEADER);
+            for (Map.Entry<String, Series> entry : results.entrySet()) {
+                Series series = entry.getValue();
+                for (int i = 0; i < series.throughput.size(); i++) {
+                    writer.printf(Locale.ROOT, "%s,%d,%.1f,%.0f%n", entry.getKey(), i + 1,
+                        series.throughput.get(i), series.allocated.get(i));
+                }
+            }
+        }
+    }
+
+    static Map<String, Series> load(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            throw new IOException("No baseline " + file.getFileName() + " in " + BASELINE_DIR);
+        }
+        Map<String, Series> results = new LinkedHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#") || line.equals(CSV_HEADER) || line.isBlank()) {
+                    continue;
+                }
+                String[] parts = line.split(",");
+                if (parts.length != 5) {
+                    throw new IOException("Malformed baseline line: " + line);
+                }
+                Series series = results.computeIfAbsent(parts[0] + "," + parts[1], k -> new Series());
+                series.throughput.add(Double.parseDouble(parts[3]));
+                series.allocated.add(Double.parseDouble(parts[4]));
+            }
+        }
+        return results;
+    }
+
+    private static Path baselineFile(String version) {
+        if (!version.matches("[A-Za-z0-9._-]+")) {
+            throw new IllegalArgumentException("Invalid version name: " + version);
+        }
+        return BASELINE_DIR.resolve(version + ".csv");
+    }
+
+    private static double[] toArray(List<Double> values) {
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
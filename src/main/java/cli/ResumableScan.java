@@ -0,0 +1,77 @@
+package cli;
+
+import algorithms.KadaneState;
+import storage.CheckpointedScan;
+import storage.ScanCheckpoint.FsyncPolicy;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+/**
+ * Checkpointed scan of a raw int32 file that resumes after a crash
+ *
+ * Run the same command again after the process dies and the scan
+ * continues from the last checkpoint. --halt-after kills the JVM once the
+ * given number of elements has been checkpointed, to try this out.
+ *
+ * Usage: ResumableScan <file> [--checkpoint PATH] [--interval N]
+ *                             [--fsync none|force] [--halt-after N]
+ */
+public class ResumableScan {
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.out.println("Usage: ResumableScan <file> [--checkpoint PATH] [--interval N]");
+            System.out.println("                            [--fsync none|force] [--halt-after N]");
+            System.exit(2);
+        }
+
+        Path input = Paths.get(args[0]);
+        Path checkpoint = Paths.get(args[0] + ".ckpt");
+        long interval = 16L * 1024 * 1024;
+        FsyncPolicy policy = FsyncPolicy.FORCE;
+        long haltAfter = -1;
+
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--checkpoint" -> checkpoint = Paths.get(args[++i]);
+                case "--interval" -> interval = Long.parseLong(args[++i]);
+                case "--fsync" -> policy = FsyncPolicy.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                case "--halt-after" -> haltAfter = Long.parseLong(args[++i]);
+                default -> {
+                    System.err.println("Unknown option: " + args[i]);
+                    System.exit(2);
+                }
+            }
+        }
+
+        final long halt = haltAfter;
+        CheckpointedScan scan = new CheckpointedScan(checkpoint, interval, policy)
+            .onCheckpoint(state -> {
+                System.out.printf("Checkpoint at element %d%n", state.getPosition());
+                if (halt >= 0 && state.getPosition() >= halt) {
+                    System.out.println("Halting (simulated crash)");
+                    Runtime.getRuntime().halt(137);
+                }
+            });
+
+        try {
+            long start = System.nanoTime();
+            KadaneState result = scan.scan(input);
+            double ms = (System.nanoTime() - start) / 1_000_000.0;
+
+            if (scan.getResumedFrom() >= 0) {
+                System.out.printf("Resumed from element %d%n", scan.getResumedFrom());
+            }
+            System.out.printf("MaxSum: %d, Range: [%d, %d]%n",
+                result.getBestSum(), result.getBestStart(), result.getBestEnd());
+            System.out.printf("Elements: %d, Checkpoints: %d, Time: %.3f ms%n",
+                result.getPosition(), scan.getCheckpointsWritten(), ms);
+        } catch (IOException e) {
+            System.err.println("Scan failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+package cli;
+
+import algorithms.KadaneAlgorithmOptimized;
+import algorithms.SubarraySummary;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coordinator for multi-process sharded scans of raw int32 files
+ *
+ * Splits a little-endian int32 file into element ranges, runs one
+ * {@link ShardWorker} JVM per range and merges the returned
+ * {@link SubarraySummary} lines into the global answer. Workers are local
+ * processes standing in for remote hosts; a worker that dies, times out or
+ * prints a malformed summary has its shard re-run.
+ */
+public class ShardCoordinator {
+
+    private int workers = Runtime.getRuntime().availableProcessors();
+    private int retries = 2;
+    private long timeoutSeconds = 600;
+    private int crashShard = -1;
+
+    public ShardCoordinator() {
+    }
+
+    ShardCoordinator(int workers, int retries, long timeoutSeconds, int crashShard) {
+        this.workers = workers;
+        this.retries = retries;
+        this.timeoutSeconds = timeoutSeconds;
+        this.crashShard = crashShard;
+    }
+
+    public static void main(String[] args) {
+        if (args.length >= 3 && args[0].equals("--generate")) {
+            long seed = args.length > 3 ? Long.parseLong(args[3]) : InputGenerator.DEFAULT_SEED;
+            Distribution distribution = args.length > 4
+                ? Distribution.fromLabel(args[4]) : Distribution.RANDOM;
+            try {
+                new InputGenerator(seed).writeFile(distribution, Long.parseLong(args[2]), Paths.get(args[1]));
+                System.out.println("✅ Wrote " + args[2] + " elements to " + args[1]);
+            } catch (IOException e) {
+                System.err.println("Error writing input: " + e.getMessage());
+                System.exit(1);
+            }
+            return;
+        }
+
+        if (args.length == 0) {
+            printUsage();
+            System.exit(2);
+        }
+
+        ShardCoordinator coordinator = new ShardCoordinator();
+        boolean bench = false;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--workers" -> coordinator.workers = Integer.parseInt(args[++i]);
+                case "--retries" -> coordinator.retries = Integer.parseInt(args[++i]);
+                case "--timeout" -> coordinator.timeoutSeconds = Long.parseLong(args[++i]);
+                case "--crash-shard" -> coordinator.crashShard = Integer.parseInt(args[++i]);
+                case "--bench" -> bench = true;
+                default -> {
+                    printUsage();
+                    System.exit(2);
+                }
+            }
+        }
+
+        Path file = Paths.get(args[0]);
+        try {
+            if (bench) {
+                coordinator.runBenchmark(file);
+            } else {
+                long start = System.nanoTime();
+                SubarraySummary summary = coordinator.run(file);
+                double ms = (System.nanoTime() - start) / 1_000_000.0;
+                System.out.printf("MaxSum: %d, Range: [%d, %d]%n",
+                    summary.bestSum, summary.bestStart, summary.bestEnd);
+                System.out.printf("Elements: %d, Workers: %d, Time: %.3f ms%n",
+                    summary.length, coordinator.workers, ms);
+            }
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Sharded scan failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void printUsage() {
+        System.out.println("Usage:");
+        System.out.println("  ShardCoordinator <file> [--workers N] [--retries R] [--timeout SEC]");
+        System.out.println("                          [--crash-shard K] [--bench]");
+        System.out.println("  ShardCoordinator --generate <file> <elements> [seed] [distribution]");
+    }
+
+    /**
+     * Scans the file with worker processes and merges their summaries
+     */
+    public SubarraySummary run(Path file) throws IOException {
+        long elements = elementCount(file);
+        int shards = (int) Math.max(1, Math.min(workers, elements));
+        long base = elements / shards;
+        long extra = elements % shards;
+
+        ExecutorService pool = Executors.newFixedThreadPool(shards);
+        try {
+            List<Future<SubarraySummary>> futures = new ArrayList<>();
+            long start = 0;
+            for (int shard = 0; shard < shards; shard++) {
+                long count = base + (shard < extra ? 1 : 0);
+                final int id = shard;
+                final long from = start;
+                futures.add(pool.submit(() -> runShard(file, id, from, count)));
+                start += count;
+            }
+
+            List<SubarraySummary> summaries = new ArrayList<>();
+            for (Future<SubarraySummary> future : futures) {
+                summaries.add(future.get());
+            }
+            return SubarraySummary.mergeAll(summaries);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for workers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } finally {
+            // Interrupts the other shards, whose workers are then destroyed in runShard
+            pool.shutdownNow();
+            awaitWorkers(pool);
+        }
+    }
+
+    private void awaitWorkers(ExecutorService pool) {
+        try {
+            if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                System.err.println("Warning: shard threads did not stop within 30 s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private SubarraySummary runShard(Path file, int shard, long start, long count)
+            throws IOException, InterruptedException {
+        String failure = null;
+        for (int attempt = 0; attempt <= retries; attempt++) {
+            if (attempt > 0) {
+                System.err.printf("Shard %d attempt %d failed (%s), re-running%n",
+                    shard, attempt, failure);
+            }
+
+            List<String> command = new ArrayList<>(List.of(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                ShardWorker.class.getName(),
+                file.toString(), Long.toString(start), Long.toString(count)));
+            if (shard == crashShard && attempt == 0) {
+                command.add("--crash");
+            }
+
+            Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+            try {
+                if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                    failure = "timed out after " + timeoutSeconds + " s";
+                    continue;
+                }
+                if (process.exitValue() != 0) {
+                    failure = "exit code " + process.exitValue();
+                    continue;
+                }
+
+                try (BufferedReader reader = new BufferedReader(
+                        new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        if (line.startsWith(ShardWorker.SUMMARY_PREFIX)) {
+                            SubarraySummary summary = SubarraySummary.fromWireFormat(
+                                line.substring(ShardWorker.SUMMARY_PREFIX.length()));
+                            if (summary.offset == start && summary.length == count) {
+                                return summary;
+                            }
+                            break;
+                        }
+                    }
+                } catch (IllegalArgumentException e) {
+                    // Malformed summary, treated like a dead worker
+                }
+            } finally {
+                // Timeout, interruption (another shard failed) or any other abnormal exit
+                if (process.isAlive()) {
+                    process.destroyForcibly();
+                }
+            }
+            failure = "no valid summary";
+        }
+        throw new IllegalStateException(String.format(
+            "Shard %d [%d, %d) failed after %d attempts (%s)",
+            shard, start, start + count, retries + 1, failure));
+    }
+
+    /**
+     * Compares the sharded scan against loading the file and scanning in-process
+     */
+    private void runBenchmark(Path file) throws IOException {
+        long elements = elementCount(file);
+        System.out.println("=== Sharded vs Single-Process Scan ===\n");
+        System.out.printf("Elements: %d (%.1f MB), Workers: %d%n%n",
+            elements, elements * Integer.BYTES / 1e6, workers);
+
+        long shardStart = System.nanoTime();
+        SubarraySummary sharded = run(file);
+        double shardMs = (System.nanoTime() - shardStart) / 1_000_000.0;
+
+        if (elements > Integer.MAX_VALUE - 8) {
+            System.out.printf("Sharded: %.3f ms | MaxSum: %d, Range: [%d, %d]%n",
+                shardMs, sharded.bestSum, sharded.bestStart, sharded.bestEnd);
+            System.out.println("Single-process path skipped: input does not fit in int[]");
+            return;
+        }
+
+        long loadStart = System.nanoTime();
+        int[] arr = readAll(file, (int) elements);
+        long scanStart = System.nanoTime();
+        KadaneAlgorithmOptimized.Result single = KadaneAlgorithmOptimized.findMaxSubarray(arr);
+        long scanEnd = System.nanoTime();
+        double loadMs = (scanStart - loadStart) / 1_000_000.0;
+        double scanMs = (scanEnd - scanStart) / 1_000_000.0;
+
+        System.out.println("-".repeat(70));
+        System.out.printf("%-16s | %-12s | %-12s | %-12s%n", "Path", "Load (ms)", "Scan (ms)", "Total (ms)");
+        System.out.println("-".repeat(70));
+        System.out.printf("%-16s | %-12.3f | %-12.3f | %-12.3f%n", "Single-process", loadMs, scanMs, loadMs + scanMs);
+        System.out.printf("%-16s | %-12s | %-12s | %-12.3f%n", "Sharded", "-", "-", shardMs);
+        System.out.println("-".repeat(70));
+
+        if (sharded.bestSum != single.maxSum
+                || sharded.bestStart != single.startIndex
+                || sharded.bestEnd != single.endIndex) {
+            System.err.println("ERROR: Results don't match! " + sharded + " vs " + single);
+            System.exit(1);
+        }
+        System.out.println("\n✅ Results match: " + single);
+    }
+
+    private static long elementCount(Path file) throws IOException {
+        long size = Files.size(file);
+        if (size == 0 || size % Integer.BYTES != 0) {
+            throw new IOException("File is empty or not a whole number of int32 values: " + file);
+        }
+        return size / Integer.BYTES;
+    }
+
+    private static int[] readAll(Path file, int elements) throws IOException {
+        int[] arr = new int[elements];
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int done = 0;
+            while (done < elements) {
+                int window = Math.min(64 * 1024 * 1024, elements - done);
+                IntBuffer ints = channel.map(FileChannel.MapMode.READ_ONLY,
+                        (long) done * Integer.BYTES, (long) window * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+                ints.get(arr, done, window);
+                done += window;
+            }
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,89 @@
+package cli;
+
+import algorithms.SubarraySummary;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Worker process for sharded scans of raw int32 files
+ *
+ * Reduces one element range of a little-endian int32 file to a
+ * {@link SubarraySummary} and prints it on stdout as a single line
+ * prefixed with {@value #SUMMARY_PREFIX}. Started by {@link ShardCoordinator}.
+ *
+ * Usage: ShardWorker <file> <startElement> <elementCount> [--crash]
+ */
+public class ShardWorker {
+
+    static final String SUMMARY_PREFIX = "SUMMARY ";
+
+    // Elements per mapped window (256 MB), keeps each mapping well below 2 GB
+    private static final int WINDOW_ELEMENTS = 64 * 1024 * 1024;
+    private static final int CHUNK_ELEMENTS = 8192;
+
+    public static void main(String[] args) {
+        if (args.length < 3) {
+            System.err.println("Usage: ShardWorker <file> <startElement> <elementCount> [--crash]");
+            System.exit(2);
+        }
+
+        // Fault injection for exercising the coordinator's retry path
+        if (args.length > 3 && args[3].equals("--crash")) {
+            Runtime.getRuntime().halt(137);
+        }
+
+        try {
+            SubarraySummary summary = summarize(Paths.get(args[0]),
+                Long.parseLong(args[1]), Long.parseLong(args[2]));
+            System.out.println(SUMMARY_PREFIX + summary.toWireFormat());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Shard failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Summarizes elements [start, start + count) of a raw int32 file
+     */
+    static SubarraySummary summarize(Path file, long start, long count) throws IOException {
+        if (start < 0 || count <= 0) {
+            throw new IllegalArgumentException("Shard range cannot be negative or empty");
+        }
+
+        SubarraySummary.Builder builder = new SubarraySummary.Builder(start);
+        int[] chunk = new int[CHUNK_ELEMENTS];
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if ((start + count) * Integer.BYTES > channel.size()) {
+                throw new IllegalArgumentException("Shard range exceeds file size");
+            }
+
+            long position = start;
+            long end = start + count;
+            while (position < end) {
+                int window = (int) Math.min(WINDOW_ELEMENTS, end - position);
+                IntBuffer ints = channel.map(FileChannel.MapMode.READ_ONLY,
+                        position * Integer.BYTES, (long) window * Integer.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN)
+                    .asIntBuffer();
+
+                while (ints.hasRemaining()) {
+                    int n = Math.min(chunk.length, ints.remaining());
+                    ints.get(chunk, 0, n);
+                    for (int i = 0; i < n; i++) {
+                        builder.add(chunk[i]);
+                    }
+                }
+                position += window;
+            }
+        }
+
+        return builder.build();
+    }
+}
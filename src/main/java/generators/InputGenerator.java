@@ -0,0 +1,304 @@
+package generators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * Seeded, parallel input generator for benchmarks
+ *
+ * The output is split into fixed blocks, each driven by its own
+ * {@link SplittableRandom} derived from (seed, block index). Blocks are
+ * filled in parallel, and the same seed, distribution and size always
+ * produce the same values whether written to an int[], an IntBuffer
+ * (heap or direct) or a raw little-endian int32 file.
+ */
+public final class InputGenerator {
+
+    public static final long DEFAULT_SEED = 42L;
+
+    static final int BLOCK_SIZE = 1 << 16;
+
+    /**
+     * Input distributions; labels are used in CSV output and on the command line
+     */
+    public enum Distribution {
+        /** Uniform in [min, max] */
+        RANDOM("Random"),
+        /** Uniform in [1, max] */
+        ALL_POSITIVE("AllPositive"),
+        /** Uniform in [min, -1] */
+        ALL_NEGATIVE("AllNegative"),
+        /** Small, mostly negative noise with rare large positive spikes */
+        SPARSE_SPIKES("SparseSpikes"),
+        /** Random walk level plus noise, giving long positive and negative runs */
+        TRENDING_WALK("TrendingWalk"),
+        /** Positive at even indices, negative at odd indices */
+        ALTERNATING_SIGNS("AlternatingSigns"),
+        /** Symmetric Pareto magnitudes (alpha 1.5) clipped to [min, max] */
+        HEAVY_TAILED("HeavyTailed"),
+        /** Non-decreasing negative ramp: every element restarts the running sum */
+        INDEX_CHURN("IndexChurn");
+
+        private final String label;
+
+        Distribution(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+
+        public static Distribution fromLabel(String label) {
+            for (Distribution d : values()) {
+                if (d.label.equalsIgnoreCase(label) || d.name().equalsIgnoreCase(label)) {
+                    return d;
+                }
+            }
+            throw new IllegalArgumentException("Unknown distribution: " + label);
+        }
+    }
+
+    private final long seed;
+    private final int min;
+    private final int max;
+
+    public InputGenerator(long seed) {
+        this(seed, -1000, 1000);
+    }
+
+    /**
+     * @param seed Seed for all blocks
+     * @param min Smallest value (must be negative)
+     * @param max Largest value (must be positive)
+     */
+    public InputGenerator(long seed, int min, int max) {
+        if (min >= 0 || max <= 0) {
+            throw new IllegalArgumentException("Range must satisfy min < 0 < max");
+        }
+        this.seed = seed;
+        this.min = min;
+        this.max = max;
+    }
+
+    public int[] generate(Distribution distribution, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        int[] arr = new int[size];
+        fill(distribution, arr);
+        return arr;
+    }
+
+    public void fill(Distribution distribution, int[] dst) {
+        long n = dst.length;
+        long[] carries = carries(distribution, n);
+        blocks(n).parallel().forEach(block -> {
+            long from = (long) block * BLOCK_SIZE;
+            int len = (int) Math.min(BLOCK_SIZE, n - from);
+            fillBlock(distribution, block, n, carries[block], dst, (int) from, len);
+        });
+    }
+
+    /**
+     * Fills dst from its position to its limit and advances the position.
+     * Works with heap and direct buffers of either byte order.
+     */
+    public void fill(Distribution distribution, IntBuffer dst) {
+        int base = dst.position();
+        long n = dst.remaining();
+        long[] carries = carries(distribution, n);
+        blocks(n).parallel().forEach(block -> {
+            long from = (long) block * BLOCK_SIZE;
+            int len = (int) Math.min(BLOCK_SIZE, n - from);
+            int[] tmp = new int[len];
+            fillBlock(distribution, block, n, carries[block], tmp, 0, len);
+            dst.put(base + (int) from, tmp, 0, len);
+        });
+        dst.position(dst.limit());
+    }
+
+    /**
+     * Allocates a little-endian direct buffer and fills it
+     */
+    public IntBuffer generateDirect(Distribution distribution, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        if ((long) size * Integer.BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Size exceeds the largest direct buffer: " + size);
+        }
+        IntBuffer buffer = ByteBuffer.allocateDirect(size * Integer.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asIntBuffer();
+        fill(distribution, buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Writes count values as a raw little-endian int32 file, blocks in parallel
+     */
+    public void writeFile(Distribution distribution, long count, Path file) throws IOException {
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be positive");
+        }
+        long[] carries = carries(distribution, count);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            blocks(count).parallel().forEach(block -> {
+                long from = (long) block * BLOCK_SIZE;
+                int len = (int) Math.min(BLOCK_SIZE, count - from);
+                int[] tmp = new int[len];
+                fillBlock(distribution, block, count, carries[block], tmp, 0, len);
+
+                ByteBuffer bytes = ByteBuffer.allocate(len * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                bytes.asIntBuffer().put(tmp);
+                long position = from * Integer.BYTES;
+                try {
+                    while (bytes.hasRemaining()) {
+                        position += channel.write(bytes, position);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static IntStream blocks(long n) {
+        return IntStream.range(0, Math.toIntExact((n + BLOCK_SIZE - 1) / BLOCK_SIZE));
+    }
+
+    /**
+     * Walk level at the start of each block; only TRENDING_WALK carries state
+     */
+    private long[] carries(Distribution distribution, long n) {
+        int blockCount = Math.toIntExact((n + BLOCK_SIZE - 1) / BLOCK_SIZE);
+        long[] carries = new long[blockCount];
+        if (distribution != Distribution.TRENDING_WALK) {
+            return carries;
+        }
+
+        // Pass 1: net walk displacement of each block, in parallel
+        long[] steps = new long[blockCount];
+        blocks(n).parallel().forEach(block -> {
+            int len = (int) Math.min(BLOCK_SIZE, n - (long) block * BLOCK_SIZE);
+            SplittableRandom random = blockRandom(block);
+            long level = 0;
+            for (int i = 0; i < len; i++) {
+                level += walkStep(random);
+                walkNoise(random);
+            }
+            steps[block] = level;
+        });
+
+        // Exclusive prefix sum gives each block its starting level
+        for (int b = 1; b < blockCount; b++) {
+            carries[b] = carries[b - 1] + steps[b - 1];
+        }
+        return carries;
+    }
+
+    private void fillBlock(Distribution distribution, int block, long n, long carry,
+                           int[] dst, int offset, int len) {
+        SplittableRandom random = blockRandom(block);
+        long first = (long) block * BLOCK_SIZE;
+
+        switch (distribution) {
+            case RANDOM -> {
+                for (int i = 0; i < len; i++) {
+                    dst[offset + i] = uniform(random, min, max);
+                }
+            }
+            case ALL_POSITIVE -> {
+                for (int i = 0; i < len; i++) {
+                    dst[offset + i] = uniform(random, 1, max);
+                }
+            }
+            case ALL_NEGATIVE -> {
+                for (int i = 0; i < len; i++) {
+                    dst[offset + i] = random.nextInt(min, 0);
+                }
+            }
+            case SPARSE_SPIKES -> {
+                int low = Math.min(-1, min / 10);
+                int high = Math.max(1, max / 20);
+                for (int i = 0; i < len; i++) {
+                    dst[offset + i] = random.nextInt(1000) == 0
+                        ? uniform(random, Math.max(1, max / 2), max)
+                        : random.nextInt(low, high + 1);
+                }
+            }
+            case TRENDING_WALK -> {
+                long level = carry;
+                for (int i = 0; i < len; i++) {
+                    level += walkStep(random);
+                    long value = level + walkNoise(random);
+                    dst[offset + i] = (int) Math.max(min, Math.min(max, value));
+                }
+            }
+            case ALTERNATING_SIGNS -> {
+                for (int i = 0; i < len; i++) {
+                    dst[offset + i] = ((first + i) & 1) == 0
+                        ? uniform(random, 1, max)
+                        : random.nextInt(min, 0);
+                }
+            }
+            case HEAVY_TAILED -> {
+                for (int i = 0; i < len; i++) {
+                    double u = 1.0 - random.nextDouble();   // (0, 1]
+                    double magnitude = Math.pow(u, -1.0 / 1.5);
+                    dst[offset + i] = random.nextBoolean()
+                        ? (int) Math.min(max, magnitude)
+                        : (int) Math.max(min, -magnitude);
+                }
+            }
+            case INDEX_CHURN -> {
+                long span = -1L - min;
+                long last = Math.max(1, n - 1);
+                for (int i = 0; i < len; i++) {
+                    dst[offset + i] = (int) (min + span * (first + i) / last);
+                }
+            }
+        }
+    }
+
+    /**
+     * Uniform in [low, high]; max + 1 would overflow at Integer.MAX_VALUE
+     */
+    private static int uniform(SplittableRandom random, int low, int high) {
+        return high < Integer.MAX_VALUE
+            ? random.nextInt(low, high + 1)
+            : (int) random.nextLong(low, high + 1L);
+    }
+
+    private static int walkStep(SplittableRandom random) {
+        return random.nextInt(3) - 1;
+    }
+
+    private int walkNoise(SplittableRandom random) {
+        int spread = Math.max(1, Math.min(-min, max) / 4);
+        return random.nextInt(-spread, spread + 1);
+    }
+
+    private SplittableRandom blockRandom(int block) {
+        return new SplittableRandom(mix64(seed + block * 0x9E3779B97F4A7C15L));
+    }
+
+    // Stafford variant 13 finalizer, decorrelates seeds of neighbouring blocks
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
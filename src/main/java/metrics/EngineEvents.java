@@ -0,0 +1,42 @@
+package metrics;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Entry points for emitting {@link EngineInvocationEvent}s from engines
+ *
+ * Loading any JFR event class initializes parts of the recorder, which
+ * costs hundreds of milliseconds on the first call. Until Flight Recorder
+ * has been initialized (by -XX:StartFlightRecording or the jdk.jfr API)
+ * no event object is created, so short-lived processes never pay it.
+ * When the recorder runs with the event disabled, begin() returns null
+ * before the clock is read, and finish() does nothing.
+ */
+public final class EngineEvents {
+
+    private EngineEvents() {
+    }
+
+    /**
+     * @return a started event, or null if Flight Recorder is not running or
+     *         the event is disabled
+     */
+    public static EngineInvocationEvent begin() {
+        if (!FlightRecorder.isInitialized()) {
+            return null;
+        }
+        EngineInvocationEvent event = new EngineInvocationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void finish(EngineInvocationEvent event, String engine, int inputLength,
+                              String path, long maxSum) {
+        if (event != null) {
+            event.finish(engine, inputLength, path, maxSum);
+        }
+    }
+}
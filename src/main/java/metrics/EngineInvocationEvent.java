@@ -0,0 +1,60 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder event for one call of a max-subarray engine
+ *
+ * Duration and thread are recorded by JFR itself. Only calls slower than
+ * the threshold (1 ms by default) are committed. To lower it, start the
+ * recording with {@code settings=src/main/resources/kadane.jfc}, which sets
+ * it to 0 ms, or call {@code enable(NAME).withThreshold(...)} on a
+ * {@link jdk.jfr.Recording}. Engines go through {@link EngineEvents}, which
+ * skips the event entirely until Flight Recorder is initialized.
+ */
+@Name(EngineInvocationEvent.NAME)
+@Label("Engine Invocation")
+@Category({"Kadane", "Engines"})
+@Description("A single call to a maximum subarray engine")
+@Threshold("1 ms")
+@StackTrace(false)
+public class EngineInvocationEvent extends Event {
+
+    public static final String NAME = "kadane.EngineInvocation";
+
+    public static final String PATH_FULL_SCAN = "full-scan";
+    public static final String PATH_ALL_NEGATIVE = "all-negative-early-exit";
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Input Length")
+    public int inputLength;
+
+    @Label("Path")
+    @Description("Code path taken, e.g. the all-negative early exit")
+    public String path;
+
+    @Label("Max Sum")
+    public long maxSum;
+
+    /**
+     * Ends the event and commits it if it passed the threshold
+     */
+    public void finish(String engine, int inputLength, String path, long maxSum) {
+        end();
+        if (shouldCommit()) {
+            this.engine = engine;
+            this.inputLength = inputLength;
+            this.path = path;
+            this.maxSum = maxSum;
+            commit();
+        }
+    }
+}
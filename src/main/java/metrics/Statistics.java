@@ -0,0 +1,89 @@
+package metrics;
+
+import java.util.Arrays;
+
+/**
+ * Non-parametric statistics for comparing benchmark samples
+ */
+public final class Statistics {
+
+    private Statistics() {
+    }
+
+    public static double median(double[] samples) {
+        if (samples == null || samples.length == 0) {
+            throw new IllegalArgumentException("Samples cannot be null or empty");
+        }
+        double[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        int mid = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2.0;
+    }
+
+    /**
+     * One-sided Mann-Whitney U test that x tends to be smaller than y
+     *
+     * Uses the normal approximation with tie and continuity correction,
+     * which is adequate from about 8 samples per group.
+     *
+     * @return p-value for H1: P(X < Y) > 1/2
+     */
+    public static double mannWhitneyLess(double[] x, double[] y) {
+        if (x == null || y == null || x.length == 0 || y.length == 0) {
+            throw new IllegalArgumentException("Samples cannot be null or empty");
+        }
+        int n1 = x.length;
+        int n2 = y.length;
+        int n = n1 + n2;
+
+        double[] all = new double[n];
+        boolean[] fromX = new boolean[n];
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++) {
+            all[i] = i < n1 ? x[i] : y[i - n1];
+            fromX[i] = i < n1;
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(all[a], all[b]));
+
+        // Mid-ranks for ties, accumulating the tie correction term
+        double rankSumX = 0;
+        double tieTerm = 0;
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j + 1 < n && all[order[j + 1]] == all[order[i]]) {
+                j++;
+            }
+            double rank = (i + j) / 2.0 + 1;
+            for (int k = i; k <= j; k++) {
+                if (fromX[order[k]]) {
+                    rankSumX += rank;
+                }
+            }
+            double t = j - i + 1;
+            tieTerm += t * t * t - t;
+            i = j + 1;
+        }
+
+        double u = rankSumX - n1 * (n1 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2.0;
+        double variance = n1 * (double) n2 / 12.0 * ((n + 1) - tieTerm / ((double) n * (n - 1)));
+        if (variance <= 0) {
+            return 0.5;   // All values identical
+        }
+        double z = (u - mean + 0.5) / Math.sqrt(variance);
+        return normalCdf(z);
+    }
+
+    /**
+     * Standard normal CDF (Abramowitz and Stegun 7.1.26, error below 1.5e-7)
+     */
+    public static double normalCdf(double z) {
+        double x = Math.abs(z) / Math.sqrt(2);
+        double t = 1 / (1 + 0.3275911 * x);
+        double poly = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741
+            + t * (-1.453152027 + t * 1.061405429))));
+        double erf = 1 - poly * Math.exp(-x * x);
+        return z >= 0 ? 0.5 * (1 + erf) : 0.5 * (1 - erf);
+    }
+}
@@ -0,0 +1,118 @@
+package metrics;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Cold-start, warm-up and steady-state latency of a repeatedly invoked call
+ *
+ * The call is invoked until steady state: a window of consecutive
+ * iterations during which the JIT compiled nothing (per
+ * {@link CompilationMXBean} total compilation time) and whose timings
+ * have a relative median absolute deviation within tolerance. A fixed
+ * number of steady-state samples is then taken. Timings come from the
+ * returned {@link PerformanceTracker}, so they exclude its GC request.
+ */
+public final class WarmupProfile {
+
+    public final long coldNanos;            // First invocation
+    public final int warmupIterations;      // Invocations after the first, before steady state
+    public final double warmupMeanNanos;
+    public final double steadyMedianNanos;
+    public final long compileMillis;        // JIT time spent during the whole profile, -1 if unknown
+    public final boolean steady;            // False if maxIterations ran out first
+
+    private WarmupProfile(long coldNanos, int warmupIterations, double warmupMeanNanos,
+                          double steadyMedianNanos, long compileMillis, boolean steady) {
+        this.coldNanos = coldNanos;
+        this.warmupIterations = warmupIterations;
+        this.warmupMeanNanos = warmupMeanNanos;
+        this.steadyMedianNanos = steadyMedianNanos;
+        this.compileMillis = compileMillis;
+        this.steady = steady;
+    }
+
+    public static WarmupProfile measure(Supplier<PerformanceTracker> call) {
+        return measure(call, 15, 0.05, 400, 30);
+    }
+
+    /**
+     * @param call Invocation to profile
+     * @param window Consecutive quiet, stable iterations that define steady state
+     * @param tolerance Maximum relative median absolute deviation within the window
+     * @param maxIterations Give up on steady state after this many invocations
+     * @param steadySamples Invocations timed once steady
+     */
+    public static WarmupProfile measure(Supplier<PerformanceTracker> call, int window, double tolerance,
+                                        int maxIterations, int steadySamples) {
+        if (window <= 0 || steadySamples <= 0 || maxIterations < window) {
+            throw new IllegalArgumentException("Invalid warm-up parameters");
+        }
+
+        CompilationMXBean jit = ManagementFactory.getCompilationMXBean();
+        boolean jitKnown = jit != null && jit.isCompilationTimeMonitoringSupported();
+        long compileStart = jitKnown ? jit.getTotalCompilationTime() : 0;
+
+        List<Long> times = new ArrayList<>();
+        List<Boolean> compiled = new ArrayList<>();
+        int steadyStart = -1;
+
+        long lastCompile = compileStart;
+        for (int i = 0; i < maxIterations; i++) {
+            times.add(call.get().getExecutionTimeNanos());
+            long compileNow = jitKnown ? jit.getTotalCompilationTime() : 0;
+            compiled.add(compileNow != lastCompile);
+            lastCompile = compileNow;
+
+            // The cold call never counts towards steady state
+            int from = i - window + 1;
+            if (from >= 1 && !compiled.subList(from, i + 1).contains(true)
+                    && isStable(times.subList(from, i + 1), tolerance)) {
+                steadyStart = from;
+                break;
+            }
+        }
+
+        boolean steady = steadyStart >= 0;
+        if (!steady) {
+            steadyStart = times.size();
+        }
+
+        double warmupMean = 0;
+        if (steadyStart > 1) {
+            warmupMean = times.subList(1, steadyStart).stream().mapToLong(Long::longValue).average().orElse(0);
+        }
+
+        double[] samples = new double[steadySamples];
+        for (int i = 0; i < steadySamples; i++) {
+            samples[i] = call.get().getExecutionTimeNanos();
+        }
+
+        long compileMillis = jitKnown ? jit.getTotalCompilationTime() - compileStart : -1;
+        return new WarmupProfile(times.get(0), Math.max(0, steadyStart - 1), warmupMean,
+            Statistics.median(samples), compileMillis, steady);
+    }
+
+    private static boolean isStable(List<Long> window, double tolerance) {
+        double[] values = window.stream().mapToDouble(Long::doubleValue).toArray();
+        double median = Statistics.median(values);
+        if (median <= 0) {
+            return false;
+        }
+        double[] deviations = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            deviations[i] = Math.abs(values[i] - median);
+        }
+        return Statistics.median(deviations) / median <= tolerance;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Cold: %.3f ms, Warm-up: %d iters (mean %.3f ms), Steady: %.3f ms%s, JIT: %s",
+            coldNanos / 1e6, warmupIterations, warmupMeanNanos / 1e6, steadyMedianNanos / 1e6,
+            steady ? "" : " (not reached)", compileMillis < 0 ? "n/a" : compileMillis + " ms");
+    }
+}
@@ -0,0 +1,149 @@
+package reactive;
+
+import algorithms.KadaneState;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * {@link Flow.Processor} that runs the optimized Kadane scan over a stream
+ * of int[] chunks
+ *
+ * Chunks are consumed one at a time: the next chunk is requested only
+ * after the current one has been folded into the running
+ * {@link KadaneState} and its snapshot accepted downstream. When
+ * subscribers fall behind, {@link #submit} blocks, so demand stops
+ * flowing upstream and at most one chunk is held in memory.
+ *
+ * A snapshot is published every {@code emitEvery} chunks; the last item
+ * before onComplete is always the final result for the whole stream.
+ * An empty stream completes exceptionally with IllegalArgumentException.
+ * Subscribe downstream before subscribing the processor to its source.
+ * If the first chunk arrives while no subscriber has ever been attached,
+ * the processor cancels the source and completes exceptionally with
+ * IllegalStateException, so a late subscriber sees onError instead of a
+ * truncated scan reported as success. Once the processor is closed or its
+ * last subscriber has cancelled, the upstream subscription is cancelled
+ * so the source stops producing.
+ */
+public class KadaneProcessor extends SubmissionPublisher<KadaneState>
+        implements Flow.Processor<int[], KadaneState> {
+
+    private final KadaneState state = new KadaneState();
+    private final int emitEvery;
+    private int sinceEmit;
+    private Flow.Subscription subscription;
+    private boolean cancelled;
+    private volatile boolean subscribed;     // Any downstream subscriber, ever
+
+    public KadaneProcessor() {
+        this(1);
+    }
+
+    public KadaneProcessor(int emitEvery) {
+        this(ForkJoinPool.commonPool(), Flow.defaultBufferSize(), emitEvery);
+    }
+
+    /**
+     * @param executor Executor delivering snapshots to subscribers
+     * @param maxBufferCapacity Snapshots buffered per subscriber before submit blocks
+     * @param emitEvery Chunks between interim snapshots
+     */
+    public KadaneProcessor(Executor executor, int maxBufferCapacity, int emitEvery) {
+        super(executor, maxBufferCapacity);
+        if (emitEvery <= 0) {
+            throw new IllegalArgumentException("emitEvery must be positive");
+        }
+        this.emitEvery = emitEvery;
+    }
+
+    /**
+     * Scans a whole publisher and completes with the final state
+     */
+    public static CompletableFuture<KadaneState> reduce(Flow.Publisher<int[]> source) {
+        KadaneProcessor processor = new KadaneProcessor(Integer.MAX_VALUE);
+        AtomicReference<KadaneState> last = new AtomicReference<>();
+        CompletableFuture<Void> done = processor.consume(last::set);
+        source.subscribe(processor);
+        return done.thenApply(ignored -> last.get());
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super KadaneState> subscriber) {
+        subscribed = true;
+        super.subscribe(subscriber);
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(int[] chunk) {
+        if (cancelled || cancelIfUnwanted()) {
+            return;
+        }
+        if (chunk.length > 0) {
+            state.accept(chunk, 0, chunk.length);
+            if (++sinceEmit >= emitEvery) {
+                submit(state.copy());
+                sinceEmit = 0;
+            }
+        }
+        if (!cancelIfUnwanted()) {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        if (!cancelled) {
+            closeExceptionally(throwable);
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (cancelled || isClosed()) {
+            return;
+        }
+        if (state.isEmpty()) {
+            closeExceptionally(new IllegalArgumentException("Stream cannot be null or empty"));
+            return;
+        }
+        if (sinceEmit > 0) {
+            submit(state.copy());
+        }
+        close();
+    }
+
+    /**
+     * Cancels upstream once nobody can receive further snapshots
+     *
+     * @return true if the upstream subscription was cancelled
+     */
+    private boolean cancelIfUnwanted() {
+        if (!isClosed() && hasSubscribers()) {
+            return false;
+        }
+        cancelled = true;
+        if (subscribed) {
+            close();
+        } else {
+            closeExceptionally(new IllegalStateException(
+                "No subscriber was attached before the first chunk; the scan would be truncated"));
+        }
+        subscription.cancel();
+        return true;
+    }
+}
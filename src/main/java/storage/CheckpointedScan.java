@@ -0,0 +1,94 @@
+package storage;
+
+import algorithms.KadaneState;
+import storage.ScanCheckpoint.FsyncPolicy;
+import storage.ScanCheckpoint.InputFingerprint;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Raw int32 file scan that periodically persists its Kadane state
+ *
+ * A checkpoint is written every {@code intervalElements} elements. If the
+ * checkpoint file exists when a scan starts, the scan resumes from it;
+ * because the saved state is the complete recurrence state, the result
+ * is bit-identical to an uninterrupted run. A checkpoint whose input
+ * fingerprint does not match the file is rejected with an IOException.
+ * The checkpoint is deleted once the scan completes.
+ */
+public final class CheckpointedScan {
+
+    private final Path checkpoint;
+    private final long intervalElements;
+    private final FsyncPolicy policy;
+    private Consumer<KadaneState> listener = state -> { };
+
+    private long checkpointsWritten;
+    private long resumedFrom = -1;
+
+    public CheckpointedScan(Path checkpoint, long intervalElements, FsyncPolicy policy) {
+        if (intervalElements <= 0) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive");
+        }
+        this.checkpoint = checkpoint;
+        this.intervalElements = intervalElements;
+        this.policy = policy;
+    }
+
+    /**
+     * Called after each checkpoint is durably written (per the fsync policy)
+     */
+    public CheckpointedScan onCheckpoint(Consumer<KadaneState> listener) {
+        this.listener = listener;
+        return this;
+    }
+
+    public KadaneState scan(Path input) throws IOException {
+        checkpointsWritten = 0;
+        resumedFrom = -1;
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            InputFingerprint fingerprint = InputFingerprint.of(channel, input);
+            long elements = fingerprint.elements;
+
+            KadaneState state;
+            if (Files.exists(checkpoint)) {
+                state = ScanCheckpoint.read(checkpoint, fingerprint);
+                resumedFrom = state.getPosition();
+            } else {
+                state = new KadaneState();
+            }
+
+            Int32FileScanner scanner = new Int32FileScanner();
+            while (state.getPosition() < elements) {
+                // Align to interval boundaries so resumed runs checkpoint at the same positions
+                long next = Math.min(elements, (state.getPosition() / intervalElements + 1) * intervalElements);
+                scanner.scanTo(channel, state, next);
+                if (next < elements) {
+                    ScanCheckpoint.write(checkpoint, state, fingerprint, policy);
+                    checkpointsWritten++;
+                    listener.accept(state);
+                }
+            }
+
+            Files.deleteIfExists(checkpoint);
+            return state;
+        }
+    }
+
+    public long getCheckpointsWritten() {
+        return checkpointsWritten;
+    }
+
+    /**
+     * Position the last scan resumed from, or -1 if it started fresh
+     */
+    public long getResumedFrom() {
+        return resumedFrom;
+    }
+}
@@ -0,0 +1,351 @@
+package storage;
+
+import algorithms.KadaneState;
+import algorithms.SubarraySummary;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Compact block format for int series: zigzag deltas stored as varints
+ *
+ * Layout (all integers little-endian):
+ * <pre>
+ *   file header : int magic "KDV1", int blockSize
+ *   block       : int count, int payloadBytes, int firstValue,
+ *                 payload = (count - 1) zigzag varint deltas
+ * </pre>
+ * Every block restarts from an absolute first value, so blocks decode
+ * independently and can be processed in parallel. Small deltas take one
+ * byte instead of four. Deltas use wrapping int arithmetic, so any int
+ * sequence round-trips exactly.
+ */
+public final class DeltaVarintFormat {
+
+    static final int MAGIC = 0x3156444B;            // "KDV1"
+    static final int FILE_HEADER_BYTES = 8;
+    static final int BLOCK_HEADER_BYTES = 12;
+    static final int FIRST_VALUE_OFFSET = 8;        // Within the block header
+    static final int MAX_VARINT_BYTES = 5;
+
+    public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+    // Caps the decode buffers a (possibly corrupt) header can ask for at ~80 MB
+    public static final int MAX_BLOCK_SIZE = 16 * 1024 * 1024;
+
+    private DeltaVarintFormat() {
+    }
+
+    /**
+     * Location of one block within a file
+     */
+    public static final class Block {
+        public final long fileOffset;     // Offset of the block header
+        public final long firstElement;   // Global index of the block's first value
+        public final int count;
+        public final int payloadBytes;
+
+        Block(long fileOffset, long firstElement, int count, int payloadBytes) {
+            this.fileOffset = fileOffset;
+            this.firstElement = firstElement;
+            this.count = count;
+            this.payloadBytes = payloadBytes;
+        }
+    }
+
+    /**
+     * Streaming encoder; values are buffered one block at a time
+     */
+    public static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private final int[] values;
+        private final ByteBuffer out;
+        private int count;
+
+        public Writer(Path file) throws IOException {
+            this(file, DEFAULT_BLOCK_SIZE);
+        }
+
+        public Writer(Path file, int blockSize) throws IOException {
+            if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE) {
+                throw new IllegalArgumentException("Block size must be in [1, " + MAX_BLOCK_SIZE + "]");
+            }
+            this.values = new int[blockSize];
+            this.out = ByteBuffer.allocate(Math.toIntExact(BLOCK_HEADER_BYTES + maxPayloadBytes(blockSize)))
+                .order(ByteOrder.LITTLE_ENDIAN);
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC).putInt(blockSize).flip();
+            writeFully(channel, header);
+        }
+
+        public void write(int value) throws IOException {
+            values[count++] = value;
+            if (count == values.length) {
+                flushBlock();
+            }
+        }
+
+        public void write(int[] arr, int from, int to) throws IOException {
+            for (int i = from; i < to; i++) {
+                write(arr[i]);
+            }
+        }
+
+        private void flushBlock() throws IOException {
+            if (count == 0) {
+                return;
+            }
+            byte[] buf = out.array();
+            int p = BLOCK_HEADER_BYTES;
+            int prev = values[0];
+            for (int i = 1; i < count; i++) {
+                int delta = values[i] - prev;
+                prev = values[i];
+                int zigzag = (delta << 1) ^ (delta >> 31);
+                while ((zigzag & ~0x7F) != 0) {
+                    buf[p++] = (byte) ((zigzag & 0x7F) | 0x80);
+                    zigzag >>>= 7;
+                }
+                buf[p++] = (byte) zigzag;
+            }
+
+            out.clear();
+            out.putInt(count).putInt(p - BLOCK_HEADER_BYTES).putInt(values[0]);
+            out.position(0).limit(p);
+            writeFully(channel, out);
+            count = 0;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                flushBlock();
+            } finally {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Re-encodes a raw little-endian int32 file
+     */
+    public static void encode(Path rawInt32, Path out, int blockSize) throws IOException {
+        try (FileChannel in = FileChannel.open(rawInt32, StandardOpenOption.READ);
+             Writer writer = new Writer(out, blockSize)) {
+            long elements = Int32FileScanner.elementCount(in.size(), rawInt32);
+            ByteBuffer bytes = ByteBuffer.allocateDirect(Int32FileScanner.CHUNK_ELEMENTS * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+            IntBuffer ints = bytes.asIntBuffer();
+            int[] chunk = new int[Int32FileScanner.CHUNK_ELEMENTS];
+
+            for (long done = 0; done < elements; ) {
+                int want = (int) Math.min(chunk.length, elements - done);
+                bytes.clear().limit(want * Integer.BYTES);
+                while (bytes.hasRemaining()) {
+                    if (in.read(bytes) < 0) {
+                        throw new IOException("Unexpected end of file");
+                    }
+                }
+                ints.clear();
+                ints.get(chunk, 0, want);
+                writer.write(chunk, 0, want);
+                done += want;
+            }
+        }
+    }
+
+    /**
+     * Decodes the file sequentially into state, one block at a time.
+     * Values before the state's position are skipped, so a restored
+     * state resumes mid-file.
+     *
+     * @return the same state, positioned at the end of the file
+     */
+    public static KadaneState scan(Path file, KadaneState state) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int blockSize = readFileHeader(channel);
+            ByteBuffer header = ByteBuffer.allocate(BLOCK_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            byte[] payload = new byte[Math.toIntExact(maxPayloadBytes(blockSize))];
+            ByteBuffer payloadBuffer = ByteBuffer.wrap(payload);
+            int[] values = new int[blockSize];
+
+            long offset = FILE_HEADER_BYTES;
+            long firstElement = 0;
+            long size = channel.size();
+            while (offset < size) {
+                header.clear();
+                readFully(channel, header, offset);
+                header.flip();
+                int count = header.getInt();
+                int payloadBytes = header.getInt();
+                int first = header.getInt();
+                checkBlock(count, payloadBytes, blockSize, file);
+
+                long skip = state.getPosition() - firstElement;
+                if (skip < count) {
+                    payloadBuffer.clear().limit(payloadBytes);
+                    readFully(channel, payloadBuffer, offset + BLOCK_HEADER_BYTES);
+                    decode(payload, payloadBytes, first, count, values, file);
+                    state.accept(values, (int) Math.max(0, skip), count);
+                }
+
+                offset += BLOCK_HEADER_BYTES + payloadBytes;
+                firstElement += count;
+            }
+
+            if (state.getPosition() > firstElement) {
+                throw new IllegalArgumentException("State position is past the end of the input");
+            }
+        }
+        return state;
+    }
+
+    /**
+     * Decodes all blocks in parallel and merges their summaries
+     */
+    public static SubarraySummary summarize(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int blockSize = readFileHeader(channel);
+            List<Block> blocks = readIndex(channel, file, blockSize);
+            if (blocks.isEmpty()) {
+                throw new IOException("File contains no values: " + file);
+            }
+
+            List<SubarraySummary> summaries = blocks.parallelStream().map(block -> {
+                ByteBuffer payload = ByteBuffer.allocate(block.payloadBytes);
+                ByteBuffer first = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                int[] values = new int[block.count];
+                try {
+                    readFully(channel, first, block.fileOffset + FIRST_VALUE_OFFSET);
+                    readFully(channel, payload, block.fileOffset + BLOCK_HEADER_BYTES);
+                    decode(payload.array(), block.payloadBytes, first.getInt(0), block.count, values, file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                SubarraySummary.Builder builder = new SubarraySummary.Builder(block.firstElement);
+                for (int value : values) {
+                    builder.add(value);
+                }
+                return builder.build();
+            }).collect(Collectors.toList());
+
+            return SubarraySummary.mergeAll(summaries);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Walks the block headers without decoding payloads
+     */
+    public static List<Block> readIndex(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return readIndex(channel, file, readFileHeader(channel));
+        }
+    }
+
+    private static List<Block> readIndex(FileChannel channel, Path file, int blockSize) throws IOException {
+        List<Block> blocks = new ArrayList<>();
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES * 2).order(ByteOrder.LITTLE_ENDIAN);
+        long offset = FILE_HEADER_BYTES;
+        long firstElement = 0;
+        long size = channel.size();
+        while (offset < size) {
+            header.clear();
+            readFully(channel, header, offset);
+            int count = header.getInt(0);
+            int payloadBytes = header.getInt(4);
+            checkBlock(count, payloadBytes, blockSize, file);
+
+            blocks.add(new Block(offset, firstElement, count, payloadBytes));
+            offset += BLOCK_HEADER_BYTES + payloadBytes;
+            firstElement += count;
+        }
+        if (offset != size) {
+            throw new IOException("Truncated block at end of " + file);
+        }
+        return blocks;
+    }
+
+    /**
+     * Decodes payload[0, payloadBytes), which must hold exactly count - 1 varints
+     */
+    private static void decode(byte[] payload, int payloadBytes, int first, int count, int[] values,
+                               Path file) throws IOException {
+        int prev = first;
+        values[0] = prev;
+        int p = 0;
+        for (int i = 1; i < count; i++) {
+            if (p >= payloadBytes) {
+                throw new IOException("Corrupt block payload in " + file);
+            }
+            int b = payload[p++];
+            int zigzag = b & 0x7F;
+            for (int shift = 7; b < 0; shift += 7) {
+                if (p >= payloadBytes || shift >= 7 * MAX_VARINT_BYTES) {
+                    throw new IOException("Corrupt block payload in " + file);
+                }
+                b = payload[p++];
+                zigzag |= (b & 0x7F) << shift;
+            }
+            prev += (zigzag >>> 1) ^ -(zigzag & 1);
+            values[i] = prev;
+        }
+        if (p != payloadBytes) {
+            throw new IOException("Corrupt block payload in " + file);
+        }
+    }
+
+    private static int readFileHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, header, 0);
+        if (header.getInt(0) != MAGIC) {
+            throw new IOException("Not a delta-varint file (bad magic)");
+        }
+        int blockSize = header.getInt(4);
+        if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE) {
+            throw new IOException("Invalid block size: " + blockSize);
+        }
+        return blockSize;
+    }
+
+    private static long maxPayloadBytes(int blockSize) {
+        return (long) blockSize * MAX_VARINT_BYTES;
+    }
+
+    private static void checkBlock(int count, int payloadBytes, int blockSize, Path file) throws IOException {
+        if (count <= 0 || count > blockSize
+                || payloadBytes < count - 1 || payloadBytes > (long) (count - 1) * MAX_VARINT_BYTES) {
+            throw new IOException("Corrupt block header in " + file);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            position += n;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package storage;
+
+import algorithms.KadaneState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams a raw little-endian int32 file through a {@link KadaneState}
+ *
+ * Reads start at the state's current position, so a state restored from
+ * an earlier partial scan continues where it left off.
+ */
+public final class Int32FileScanner {
+
+    static final int CHUNK_ELEMENTS = 64 * 1024;
+
+    private final ByteBuffer bytes = ByteBuffer.allocateDirect(CHUNK_ELEMENTS * Integer.BYTES)
+        .order(ByteOrder.LITTLE_ENDIAN);
+    private final IntBuffer ints = bytes.asIntBuffer();
+    private final int[] chunk = new int[CHUNK_ELEMENTS];
+
+    Int32FileScanner() {
+    }
+
+    /**
+     * Feeds the rest of the file into state
+     *
+     * @return the same state, positioned at the end of the file
+     */
+    public static KadaneState scan(Path file, KadaneState state) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long elements = elementCount(channel.size(), file);
+            new Int32FileScanner().scanTo(channel, state, elements);
+        }
+        return state;
+    }
+
+    /**
+     * Feeds elements from state's position up to end (exclusive) into state
+     */
+    void scanTo(FileChannel channel, KadaneState state, long end) throws IOException {
+        if (state.getPosition() > end) {
+            throw new IllegalArgumentException("State position is past the end of the input");
+        }
+
+        channel.position(state.getPosition() * Integer.BYTES);
+        while (state.getPosition() < end) {
+            int want = (int) Math.min(CHUNK_ELEMENTS, end - state.getPosition());
+            bytes.clear().limit(want * Integer.BYTES);
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes) < 0) {
+                    throw new IOException("Unexpected end of file");
+                }
+            }
+            ints.clear();
+            ints.get(chunk, 0, want);
+            state.accept(chunk, 0, want);
+        }
+    }
+
+    static long elementCount(long bytes, Path file) throws IOException {
+        if (bytes == 0 || bytes % Integer.BYTES != 0) {
+            throw new IOException("File is empty or not a whole number of int32 values: " + file);
+        }
+        return bytes / Integer.BYTES;
+    }
+}
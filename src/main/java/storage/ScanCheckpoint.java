@@ -0,0 +1,192 @@
+package storage;
+
+import algorithms.KadaneState;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Small on-disk snapshot of a {@link KadaneState} for resumable scans
+ *
+ * Layout (little-endian): int magic "KCP2", the input fingerprint (long
+ * elements, long last-modified millis, long sample CRC), six longs of
+ * Kadane state (current sum, best sum, temp start, best start, best end,
+ * position), int CRC32 of everything before it. Writes go to a temporary
+ * sibling file that is then atomically renamed over the checkpoint, so a
+ * crash mid-write leaves the previous checkpoint intact. A checkpoint is
+ * only accepted for an input with the same fingerprint, so a regenerated
+ * or replaced input of the same length starts over instead of resuming
+ * from stale state.
+ */
+public final class ScanCheckpoint {
+
+    static final int MAGIC = 0x3250434B;    // "KCP2"
+    static final int BYTES = Integer.BYTES + 9 * Long.BYTES + Integer.BYTES;
+    static final int SAMPLE_BYTES = 64 * 1024;
+
+    /**
+     * Durability of each checkpoint write
+     */
+    public enum FsyncPolicy {
+        /** Leave flushing to the OS; survives process death, not power loss */
+        NONE,
+        /** Force the file and its directory to disk before returning */
+        FORCE
+    }
+
+    /**
+     * Identifies the input a checkpoint was taken for: its length, its
+     * modification time and a CRC32 of its first and last 64 KB
+     */
+    public static final class InputFingerprint {
+        public final long elements;
+        public final long lastModifiedMillis;
+        public final long sampleCrc;
+
+        public InputFingerprint(long elements, long lastModifiedMillis, long sampleCrc) {
+            this.elements = elements;
+            this.lastModifiedMillis = lastModifiedMillis;
+            this.sampleCrc = sampleCrc;
+        }
+
+        /**
+         * Fingerprints a raw int32 input
+         */
+        public static InputFingerprint of(FileChannel channel, Path file) throws IOException {
+            long size = channel.size();
+            long elements = Int32FileScanner.elementCount(size, file);
+
+            CRC32 crc = new CRC32();
+            ByteBuffer sample = ByteBuffer.allocate((int) Math.min(SAMPLE_BYTES, size));
+            readFully(channel, sample, 0);
+            crc.update(sample.flip());
+            if (size > SAMPLE_BYTES) {
+                readFully(channel, sample.clear(), Math.max(SAMPLE_BYTES, size - SAMPLE_BYTES));
+                crc.update(sample.flip());
+            }
+            return new InputFingerprint(elements, Files.getLastModifiedTime(file).toMillis(), crc.getValue());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof InputFingerprint)) {
+                return false;
+            }
+            InputFingerprint other = (InputFingerprint) o;
+            return elements == other.elements && lastModifiedMillis == other.lastModifiedMillis
+                && sampleCrc == other.sampleCrc;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(elements) * 31 * 31 + Long.hashCode(lastModifiedMillis) * 31
+                + Long.hashCode(sampleCrc);
+        }
+    }
+
+    private ScanCheckpoint() {
+    }
+
+    public static void write(Path checkpoint, KadaneState state, InputFingerprint input,
+                             FsyncPolicy policy) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC)
+            .putLong(input.elements)
+            .putLong(input.lastModifiedMillis)
+            .putLong(input.sampleCrc)
+            .putLong(state.getCurrentSum())
+            .putLong(state.getBestSum())
+            .putLong(state.getTempStart())
+            .putLong(state.getBestStart())
+            .putLong(state.getBestEnd())
+            .putLong(state.getPosition());
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        buffer.flip();
+
+        Path tmp = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            if (policy == FsyncPolicy.FORCE) {
+                channel.force(true);
+            }
+        }
+        Files.move(tmp, checkpoint, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        if (policy == FsyncPolicy.FORCE) {
+            forceDirectory(checkpoint.toAbsolutePath().getParent());
+        }
+    }
+
+    /**
+     * Loads a checkpoint taken for the given input
+     *
+     * @throws IOException if the file is corrupt or was written for another input
+     */
+    public static KadaneState read(Path checkpoint, InputFingerprint input) throws IOException {
+        byte[] bytes = Files.readAllBytes(checkpoint);
+        if (bytes.length != BYTES) {
+            throw new IOException("Corrupt checkpoint (wrong size): " + checkpoint);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, BYTES - Integer.BYTES);
+        if (buffer.getInt(BYTES - Integer.BYTES) != (int) crc.getValue()) {
+            throw new IOException("Corrupt checkpoint (checksum mismatch): " + checkpoint);
+        }
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a scan checkpoint: " + checkpoint);
+        }
+        long elements = buffer.getLong();
+        if (elements != input.elements) {
+            throw new IOException(String.format(
+                "Checkpoint was taken for %d elements, input has %d: %s",
+                elements, input.elements, checkpoint));
+        }
+        if (!new InputFingerprint(elements, buffer.getLong(), buffer.getLong()).equals(input)) {
+            throw new IOException("Checkpoint was taken for a different version of the input "
+                + "(modified or replaced): " + checkpoint);
+        }
+
+        KadaneState state = new KadaneState(buffer.getLong(), buffer.getLong(), buffer.getLong(),
+            buffer.getLong(), buffer.getLong(), buffer.getLong());
+        if (state.getPosition() > input.elements) {
+            throw new IOException("Checkpoint position is past the end of the input: " + checkpoint);
+        }
+        return state;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, position);
+            if (n < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+            position += n;
+        }
+    }
+
+    private static void forceDirectory(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        // Directory fsync makes the rename durable; not supported on every platform
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Best effort
+        }
+    }
+}
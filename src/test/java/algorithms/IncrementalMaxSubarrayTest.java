@@ -0,0 +1,114 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the incrementally maintained maximum subarray
+ */
+class IncrementalMaxSubarrayTest {
+    
+    @Test
+    @DisplayName("Appends match the optimized algorithm")
+    void testAppends() {
+        int[] arr = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        IncrementalMaxSubarray container = new IncrementalMaxSubarray(4);
+        for (int value : arr) {
+            container.append(value);
+        }
+        
+        KadaneAlgorithmOptimized.Result expected = KadaneAlgorithmOptimized.findMaxSubarray(arr);
+        assertEquals(expected.maxSum, container.getMaxSum());
+        assertEquals(expected.startIndex, container.getStartIndex());
+        assertEquals(expected.endIndex, container.getEndIndex());
+        assertArrayEquals(arr, container.toArray());
+        assertEquals(0, container.getRescannedElements());
+    }
+    
+    @Test
+    @DisplayName("Random appends, edits and truncations always match a full re-scan")
+    void testRandomOperations() {
+        Random random = new Random(17);
+        for (int interval : new int[]{1, 3, 8, 64}) {
+            IncrementalMaxSubarray container = new IncrementalMaxSubarray(interval);
+            for (int op = 0; op < 3000; op++) {
+                int choice = random.nextInt(10);
+                if (container.isEmpty() || choice < 5) {
+                    container.append(random.nextInt(21) - 10);
+                } else if (choice < 6) {
+                    int[] chunk = new int[random.nextInt(20)];
+                    for (int i = 0; i < chunk.length; i++) {
+                        chunk[i] = random.nextInt(21) - 10;
+                    }
+                    container.append(chunk, 0, chunk.length);
+                } else if (choice < 8) {
+                    container.set(random.nextInt(container.size()), random.nextInt(21) - 10);
+                } else if (choice < 9) {
+                    container.removeLast();
+                } else {
+                    container.truncate(random.nextInt(container.size() + 1));
+                }
+                
+                if (!container.isEmpty()) {
+                    assertMatchesRescan(container);
+                }
+            }
+        }
+    }
+    
+    @Test
+    @DisplayName("Tail edits re-scan at most one interval plus the edited suffix")
+    void testTailEditCost() {
+        int interval = 256;
+        IncrementalMaxSubarray container = new IncrementalMaxSubarray(interval);
+        Random random = new Random(5);
+        for (int i = 0; i < 100_000; i++) {
+            container.append(random.nextInt(2001) - 1000);
+        }
+        
+        int k = 10;
+        for (int edit = 0; edit < 100; edit++) {
+            long before = container.getRescannedElements();
+            container.set(container.size() - 1 - random.nextInt(k), random.nextInt(2001) - 1000);
+            assertTrue(container.getRescannedElements() - before <= interval + k);
+        }
+        long before = container.getRescannedElements();
+        container.removeLast();
+        assertTrue(container.getRescannedElements() - before <= interval);
+        
+        KadaneAlgorithmOptimized.Result expected = KadaneAlgorithmOptimized.findMaxSubarray(container.toArray());
+        assertEquals(expected.maxSum, container.getMaxSum());
+        assertEquals(expected.startIndex, container.getStartIndex());
+        assertEquals(expected.endIndex, container.getEndIndex());
+    }
+    
+    @Test
+    @DisplayName("Empty container and bad arguments are rejected")
+    void testInvalidUse() {
+        assertThrows(IllegalArgumentException.class, () -> new IncrementalMaxSubarray(0));
+        
+        IncrementalMaxSubarray container = new IncrementalMaxSubarray();
+        assertThrows(IllegalStateException.class, container::getMaxSum);
+        assertThrows(IllegalStateException.class, container::removeLast);
+        assertThrows(IndexOutOfBoundsException.class, () -> container.set(0, 1));
+        
+        container.append(3);
+        assertThrows(IndexOutOfBoundsException.class, () -> container.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> container.truncate(2));
+        container.truncate(0);
+        assertThrows(IllegalStateException.class, container::getMaxSum);
+    }
+    
+    private static void assertMatchesRescan(IncrementalMaxSubarray container) {
+        int[] arr = container.toArray();
+        KadaneState expected = new KadaneState();
+        expected.accept(arr, 0, arr.length);
+        assertEquals(expected.getBestSum(), container.getMaxSum());
+        assertEquals(expected.getBestStart(), container.getStartIndex());
+        assertEquals(expected.getBestEnd(), container.getEndIndex());
+    }
+}
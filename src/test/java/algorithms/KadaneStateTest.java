@@ -0,0 +1,74 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the streaming Kadane state
+ */
+class KadaneStateTest {
+    
+    @Test
+    @DisplayName("Element-by-element feeding matches optimized Kadane")
+    void testSingleValues() {
+        int[] arr = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        KadaneState state = new KadaneState();
+        for (int value : arr) {
+            state.accept(value);
+        }
+        
+        assertEquals(6, state.getBestSum());
+        assertEquals(3, state.getBestStart());
+        assertEquals(6, state.getBestEnd());
+        assertEquals(arr.length, state.getPosition());
+    }
+    
+    @Test
+    @DisplayName("Random chunk boundaries give the same answer as a full scan")
+    void testChunkedFeeding() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] arr = new int[1 + random.nextInt(300)];
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = random.nextInt(21) - 10;
+            }
+            
+            KadaneState state = new KadaneState();
+            int from = 0;
+            while (from < arr.length) {
+                int to = Math.min(arr.length, from + 1 + random.nextInt(40));
+                state.accept(arr, from, to);
+                from = to;
+            }
+            
+            KadaneAlgorithmOptimized.Result expected = KadaneAlgorithmOptimized.findMaxSubarray(arr);
+            KadaneAlgorithmOptimized.Result actual = state.toResult(null);
+            assertEquals(expected.maxSum, actual.maxSum);
+            assertEquals(expected.startIndex, actual.startIndex);
+            assertEquals(expected.endIndex, actual.endIndex);
+        }
+    }
+    
+    @Test
+    @DisplayName("Copies are independent")
+    void testCopy() {
+        KadaneState state = new KadaneState();
+        state.accept(5);
+        KadaneState copy = state.copy();
+        state.accept(7);
+        
+        assertEquals(5, copy.getBestSum());
+        assertEquals(1, copy.getPosition());
+        assertEquals(12, state.getBestSum());
+    }
+    
+    @Test
+    @DisplayName("Empty state has no result")
+    void testEmpty() {
+        assertThrows(IllegalStateException.class, () -> new KadaneState().toResult(null));
+    }
+}
@@ -0,0 +1,176 @@
+package algorithms;
+
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Conformance and throughput suite run against every registered engine
+ *
+ * New engines only need a META-INF/services entry to be covered here.
+ * Every engine call runs Runtime.gc() in PerformanceTracker.startTimer,
+ * so the broad random coverage checks the references against each other
+ * without engines, and engines are called only on the inputs that test them.
+ */
+class MaxSubarrayEngineConformanceTest {
+    
+    // Deliberately loose: catches pathological slowdowns, not small regressions
+    private static final double MIN_ELEMENTS_PER_SECOND = 20e6;
+    
+    static List<MaxSubarrayEngine> engines() {
+        return MaxSubarrayEngines.all();
+    }
+    
+    @Test
+    @DisplayName("Built-in engines are registered with unique names")
+    void testRegistry() {
+        Set<String> names = new HashSet<>();
+        for (MaxSubarrayEngine engine : engines()) {
+            assertTrue(names.add(engine.name()), "Duplicate engine name " + engine.name());
+        }
+        assertTrue(names.contains("KadaneAlgorithm.findMaxSubarray"));
+        assertTrue(names.contains("KadaneAlgorithm.findMaxSubarrayOptimized"));
+        assertTrue(names.contains("KadaneAlgorithmOptimized.findMaxSubarray"));
+        assertTrue(names.contains("KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination"));
+        assertTrue(names.contains("SubarrayStatistics.compute"));
+        assertSame(engines().get(0), MaxSubarrayEngines.byName(engines().get(0).name()));
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    @DisplayName("Known cases")
+    void testKnownCases(MaxSubarrayEngine engine) {
+        assertResult(engine, new int[]{-2, 1, -3, 4, -1, 2, 1, -5, 4}, 6, 3, 6);
+        assertResult(engine, new int[]{5}, 5, 0, 0);
+        assertResult(engine, new int[]{-5, -2, -8, -1, -4}, -1, 3, 3);
+        assertResult(engine, new int[]{1, 2, 3, 4, 5}, 15, 0, 4);
+        assertResult(engine, new int[]{0, 0, 0}, 0, 0, 0);
+        assertResult(engine, new int[]{-1, -1, -1}, -1, 0, 0);
+        assertResult(engine, new int[]{3, -3, 3}, 3, 0, 0);
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    @DisplayName("Invalid input is rejected")
+    void testInvalidInput(MaxSubarrayEngine engine) {
+        assertThrows(IllegalArgumentException.class, () -> engine.findMaxSubarray(null));
+        assertThrows(IllegalArgumentException.class, () -> engine.findMaxSubarray(new int[0]));
+    }
+    
+    @Test
+    @DisplayName("The streaming reference matches brute force, including tie-breaking")
+    void testReferenceAgainstBruteForce() {
+        Random random = new Random(17);
+        for (int trial = 0; trial < 2000; trial++) {
+            int[] arr = randomArray(random);
+            long[] expected = bruteForce(arr);
+            KadaneState reference = new KadaneState();
+            reference.accept(arr, 0, arr.length);
+            assertEquals(expected[0], reference.getBestSum(), Arrays.toString(arr));
+            assertEquals(expected[1], reference.getBestStart(), Arrays.toString(arr));
+            assertEquals(expected[2], reference.getBestEnd(), Arrays.toString(arr));
+        }
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    @DisplayName("Random arrays match brute force, including tie-breaking")
+    void testAgainstBruteForce(MaxSubarrayEngine engine) {
+        Random random = new Random(engine.name().hashCode());
+        for (int trial = 0; trial < 10; trial++) {
+            int[] arr = randomArray(random);
+            long[] expected = bruteForce(arr);
+            assertResult(engine, arr, expected[0], (int) expected[1], (int) expected[2]);
+        }
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    @DisplayName("Every input distribution agrees with the streaming reference")
+    void testDistributions(MaxSubarrayEngine engine) {
+        for (Distribution distribution : Distribution.values()) {
+            int[] arr = new InputGenerator(31).generate(distribution, 20_000);
+            KadaneState reference = new KadaneState();
+            reference.accept(arr, 0, arr.length);
+            assertResult(engine, arr, reference.getBestSum(),
+                (int) reference.getBestStart(), (int) reference.getBestEnd());
+        }
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    @DisplayName("Overflow-safe engines report sums beyond the int range")
+    void testOverflow(MaxSubarrayEngine engine) {
+        assumeTrue(engine.isOverflowSafe(), engine.name() + " accumulates in int");
+        int[] arr = new int[100];
+        Arrays.fill(arr, Integer.MAX_VALUE / 10);
+        assertResult(engine, arr, 100L * (Integer.MAX_VALUE / 10), 0, 99);
+    }
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    @DisplayName("Throughput meets the minimum on 1M elements")
+    void testThroughput(MaxSubarrayEngine engine) {
+        int[] arr = new InputGenerator(InputGenerator.DEFAULT_SEED).generate(Distribution.RANDOM, 1_000_000);
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 5; run++) {
+            best = Math.min(best, engine.findMaxSubarray(arr).metrics.getExecutionTimeNanos());
+        }
+        double rate = arr.length * 1e9 / Math.max(1, best);
+        assertTrue(rate >= MIN_ELEMENTS_PER_SECOND,
+            String.format("%s: %.1f M elements/s", engine.name(), rate / 1e6));
+    }
+    
+    private static void assertResult(MaxSubarrayEngine engine, int[] arr, long sum, int start, int end) {
+        MaxSubarrayResult result = engine.findMaxSubarray(arr);
+        assertEquals(sum, result.maxSum, engine.name() + " sum");
+        assertEquals(start, result.startIndex, engine.name() + " start");
+        assertEquals(end, result.endIndex, engine.name() + " end");
+        assertNotNull(result.metrics);
+    }
+    
+    // Short arrays with small values, so equal sums and zero runs are common
+    private static int[] randomArray(Random random) {
+        int[] arr = new int[1 + random.nextInt(60)];
+        int bound = 1 + random.nextInt(10);
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = random.nextInt(2 * bound + 1) - bound;
+        }
+        return arr;
+    }
+    
+    /**
+     * Earliest end, then earliest start for that end
+     */
+    private static long[] bruteForce(int[] arr) {
+        long best = Long.MIN_VALUE;
+        long bestStart = 0;
+        long bestEnd = 0;
+        for (int end = 0; end < arr.length; end++) {
+            for (int start = 0; start <= end; start++) {
+                long sum = 0;
+                for (int k = start; k <= end; k++) {
+                    sum += arr[k];
+                }
+                if (sum > best) {
+                    best = sum;
+                    bestStart = start;
+                    bestEnd = end;
+                }
+            }
+        }
+        return new long[]{best, bestStart, bestEnd};
+    }
+}
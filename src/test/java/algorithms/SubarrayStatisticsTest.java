@@ -0,0 +1,138 @@
+package algorithms;
+
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the fused single-pass kernel
+ */
+class SubarrayStatisticsTest {
+    
+    @Test
+    @DisplayName("Classic example gives all four statistics")
+    void testClassicExample() {
+        SubarrayStatistics stats = SubarrayStatistics.compute(new int[]{-2, 1, -3, 4, -1, 2, 1, -5, 4});
+        
+        assertEquals(6, stats.maxSum);
+        assertEquals(3, stats.maxStart);
+        assertEquals(6, stats.maxEnd);
+        assertEquals(-5, stats.minSum);
+        assertEquals(7, stats.minStart);
+        assertEquals(7, stats.minEnd);
+        assertEquals(1, stats.total);
+        assertEquals(1, stats.firstNonNegative);
+        assertFalse(stats.isAllNegative());
+    }
+    
+    @Test
+    @DisplayName("All-negative input is flagged and the whole array is the minimum")
+    void testAllNegative() {
+        SubarrayStatistics stats = SubarrayStatistics.compute(new int[]{-5, -2, -8, -1, -4});
+        
+        assertTrue(stats.isAllNegative());
+        assertEquals(-1, stats.firstNonNegative);
+        assertEquals(-1, stats.maxSum);
+        assertEquals(3, stats.maxStart);
+        assertEquals(3, stats.maxEnd);
+        assertEquals(-20, stats.minSum);
+        assertEquals(0, stats.minStart);
+        assertEquals(4, stats.minEnd);
+        assertEquals(-20, stats.total);
+    }
+    
+    @Test
+    @DisplayName("Sums beyond the int range do not overflow")
+    void testOverflow() {
+        int[] arr = new int[10];
+        Arrays.fill(arr, Integer.MIN_VALUE);
+        SubarrayStatistics stats = SubarrayStatistics.compute(arr);
+        
+        assertEquals(10L * Integer.MIN_VALUE, stats.total);
+        assertEquals(10L * Integer.MIN_VALUE, stats.minSum);
+        assertEquals(Integer.MIN_VALUE, stats.maxSum);
+    }
+    
+    @Test
+    @DisplayName("Random arrays match separate brute-force passes")
+    void testAgainstSeparatePasses() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 300; trial++) {
+            int[] arr = new int[1 + random.nextInt(50)];
+            int bound = 1 + random.nextInt(6);
+            int shift = random.nextInt(3) - 1;
+            for (int i = 0; i < arr.length; i++) {
+                arr[i] = random.nextInt(2 * bound + 1) - bound + shift;
+            }
+            
+            SubarrayStatistics stats = SubarrayStatistics.compute(arr);
+            long[] max = bruteForce(arr, 1);
+            long[] min = bruteForce(arr, -1);
+            assertEquals(max[0], stats.maxSum);
+            assertEquals(max[1], stats.maxStart);
+            assertEquals(max[2], stats.maxEnd);
+            assertEquals(-min[0], stats.minSum);
+            assertEquals(min[1], stats.minStart);
+            assertEquals(min[2], stats.minEnd);
+            assertEquals(Arrays.stream(arr).asLongStream().sum(), stats.total);
+            
+            int firstNonNegative = -1;
+            for (int i = 0; i < arr.length && firstNonNegative < 0; i++) {
+                if (arr[i] >= 0) {
+                    firstNonNegative = i;
+                }
+            }
+            assertEquals(firstNonNegative, stats.firstNonNegative);
+        }
+    }
+    
+    @Test
+    @DisplayName("Maximum subarray agrees with the optimized engine on every distribution")
+    void testDistributions() {
+        for (Distribution distribution : Distribution.values()) {
+            int[] arr = new InputGenerator(5).generate(distribution, 50_000);
+            SubarrayStatistics stats = SubarrayStatistics.compute(arr);
+            KadaneAlgorithmOptimized.Result expected = KadaneAlgorithmOptimized.findMaxSubarray(arr);
+            
+            assertEquals(expected.maxSum, stats.maxSum, distribution.label());
+            assertEquals(expected.startIndex, stats.maxStart, distribution.label());
+            assertEquals(expected.endIndex, stats.maxEnd, distribution.label());
+        }
+    }
+    
+    @Test
+    @DisplayName("Null and empty input are rejected")
+    void testInvalidInput() {
+        assertThrows(IllegalArgumentException.class, () -> SubarrayStatistics.compute(null));
+        assertThrows(IllegalArgumentException.class, () -> SubarrayStatistics.compute(new int[0]));
+    }
+    
+    /**
+     * Best of sign * sum: earliest end, then earliest start; returns {sign * sum, start, end}
+     */
+    private static long[] bruteForce(int[] arr, int sign) {
+        long best = Long.MIN_VALUE;
+        long bestStart = 0;
+        long bestEnd = 0;
+        for (int end = 0; end < arr.length; end++) {
+            for (int start = 0; start <= end; start++) {
+                long sum = 0;
+                for (int k = start; k <= end; k++) {
+                    sum += (long) sign * arr[k];
+                }
+                if (sum > best) {
+                    best = sum;
+                    bestStart = start;
+                    bestEnd = end;
+                }
+            }
+        }
+        return new long[]{best, bestStart, bestEnd};
+    }
+}
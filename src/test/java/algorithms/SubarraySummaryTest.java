@@ -0,0 +1,113 @@
+package algorithms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for mergeable subarray summaries
+ */
+class SubarraySummaryTest {
+
+    @Test
+    @DisplayName("Whole-array summary matches optimized Kadane")
+    void testSingleSegment() {
+        int[] arr = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        SubarraySummary summary = SubarraySummary.of(arr, 0, arr.length, 0);
+
+        assertEquals(6, summary.bestSum);
+        assertEquals(3, summary.bestStart);
+        assertEquals(6, summary.bestEnd);
+        assertEquals(1, summary.total);
+        assertEquals(2, summary.bestPrefix);
+        assertEquals(6, summary.prefixEnd);
+        assertEquals(5, summary.bestSuffix);
+        assertEquals(3, summary.suffixStart);
+    }
+
+    @Test
+    @DisplayName("Every two-way split merges to the sequential answer, including ties")
+    void testAllSplitPoints() {
+        Random random = new Random(7);
+        for (int trial = 0; trial < 300; trial++) {
+            int[] arr = randomArray(random, 1 + random.nextInt(40), 3);
+            KadaneState expected = sequential(arr);
+
+            for (int split = 1; split < arr.length; split++) {
+                SubarraySummary merged = SubarraySummary.of(arr, 0, split, 0)
+                    .merge(SubarraySummary.of(arr, split, arr.length, 0));
+                assertMatches(expected, merged);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Many random shards merge to the sequential answer")
+    void testRandomShards() {
+        Random random = new Random(11);
+        for (int trial = 0; trial < 200; trial++) {
+            int[] arr = randomArray(random, 1 + random.nextInt(500), 1 + random.nextInt(50));
+            List<SubarraySummary> shards = new ArrayList<>();
+            int from = 0;
+            while (from < arr.length) {
+                int to = Math.min(arr.length, from + 1 + random.nextInt(60));
+                shards.add(SubarraySummary.of(arr, from, to, 0));
+                from = to;
+            }
+
+            assertMatches(sequential(arr), SubarraySummary.mergeAll(shards));
+        }
+    }
+
+    @Test
+    @DisplayName("Wire format round-trips")
+    void testWireFormat() {
+        int[] arr = {3, -7, 2, 2, -1, 5};
+        SubarraySummary summary = SubarraySummary.of(arr, 1, arr.length, 1000);
+        SubarraySummary parsed = SubarraySummary.fromWireFormat(summary.toWireFormat());
+
+        assertEquals(summary.toString(), parsed.toString());
+        assertEquals(summary.bestPrefix, parsed.bestPrefix);
+        assertEquals(summary.suffixStart, parsed.suffixStart);
+        assertEquals(1001, parsed.offset);
+    }
+
+    @Test
+    @DisplayName("Non-adjacent segments are rejected")
+    void testNonAdjacentMerge() {
+        int[] arr = {1, 2, 3, 4};
+        SubarraySummary left = SubarraySummary.of(arr, 0, 1, 0);
+        SubarraySummary right = SubarraySummary.of(arr, 2, 4, 0);
+
+        assertThrows(IllegalArgumentException.class, () -> left.merge(right));
+    }
+
+    /**
+     * Sequential reference; KadaneState follows the optimized recurrence
+     * without the engine's per-call GC request
+     */
+    private static KadaneState sequential(int[] arr) {
+        KadaneState state = new KadaneState();
+        state.accept(arr, 0, arr.length);
+        return state;
+    }
+
+    private static void assertMatches(KadaneState expected, SubarraySummary actual) {
+        assertEquals(expected.getBestSum(), actual.bestSum);
+        assertEquals(expected.getBestStart(), actual.bestStart);
+        assertEquals(expected.getBestEnd(), actual.bestEnd);
+    }
+
+    private static int[] randomArray(Random random, int size, int bound) {
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            arr[i] = random.nextInt(2 * bound + 1) - bound;
+        }
+        return arr;
+    }
+}
@@ -0,0 +1,109 @@
+package cli;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the regression detector's baseline files and verdicts
+ */
+class RegressionDetectorTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Baselines written under a decimal-comma locale read back intact")
+    void testBaselineRoundTrip() throws IOException {
+        Map<String, RegressionDetector.Series> results = new LinkedHashMap<>();
+        RegressionDetector.Series series = new RegressionDetector.Series();
+        series.throughput.add(1234.5);
+        series.throughput.add(98765.4);
+        series.allocated.add(77.0);
+        series.allocated.add(0.0);
+        results.put("E,1000", series);
+
+        Locale previous = Locale.getDefault();
+        Path file = dir.resolve("v1.csv");
+        try {
+            Locale.setDefault(Locale.GERMANY);
+            RegressionDetector.writeBaseline(file, "v1", results);
+        } finally {
+            Locale.setDefault(previous);
+        }
+
+        Map<String, RegressionDetector.Series> loaded = RegressionDetector.load(file);
+        assertEquals(results.keySet(), loaded.keySet());
+        assertEquals(series.throughput, loaded.get("E,1000").throughput);
+        assertEquals(series.allocated, loaded.get("E,1000").allocated);
+    }
+
+    @Test
+    @DisplayName("Verdicts cover ok, regression, new and missing pairs")
+    void testCompareVerdicts() {
+        Map<String, RegressionDetector.Series> baseline = new LinkedHashMap<>();
+        baseline.put("Steady,1000", series(100e6, 0));
+        baseline.put("Slower,1000", series(100e6, 0));
+        baseline.put("Hungry,1000", series(100e6, 0));
+        baseline.put("Removed,1000", series(100e6, 0));
+
+        Map<String, RegressionDetector.Series> current = new LinkedHashMap<>();
+        current.put("Steady,1000", series(100e6, 0));
+        current.put("Slower,1000", series(50e6, 0));
+        current.put("Hungry,1000", series(100e6, 64 * 1024));
+        current.put("Added,1000", series(100e6, 0));
+
+        List<RegressionDetector.Row> rows = RegressionDetector.compare(baseline, current, 0.15, 0.01);
+        Map<String, RegressionDetector.Row> byKey = new LinkedHashMap<>();
+        for (RegressionDetector.Row row : rows) {
+            byKey.put(row.key, row);
+        }
+        assertEquals(5, byKey.size());
+
+        assertEquals("ok", byKey.get("Steady,1000").verdict);
+        assertFalse(byKey.get("Steady,1000").failed);
+        assertEquals("REGRESSION (throughput)", byKey.get("Slower,1000").verdict);
+        assertTrue(byKey.get("Slower,1000").failed);
+        assertTrue(byKey.get("Hungry,1000").verdict.startsWith("REGRESSION (allocation"));
+        assertTrue(byKey.get("Hungry,1000").failed);
+        assertEquals("NEW", byKey.get("Added,1000").verdict);
+        assertFalse(byKey.get("Added,1000").failed);
+        assertEquals("MISSING", byKey.get("Removed,1000").verdict);
+        assertTrue(byKey.get("Removed,1000").failed);
+        assertTrue(RegressionDetector.failed(rows));
+    }
+
+    @Test
+    @DisplayName("A missing pair alone fails the comparison")
+    void testMissingFails() {
+        Map<String, RegressionDetector.Series> baseline = new LinkedHashMap<>();
+        baseline.put("Kept,1000", series(100e6, 0));
+        baseline.put("Dropped,1000", series(100e6, 0));
+        Map<String, RegressionDetector.Series> current = new LinkedHashMap<>();
+        current.put("Kept,1000", series(100e6, 0));
+
+        assertTrue(RegressionDetector.failed(RegressionDetector.compare(baseline, current, 0.15, 0.01)));
+
+        baseline.remove("Dropped,1000");
+        assertFalse(RegressionDetector.failed(RegressionDetector.compare(baseline, current, 0.15, 0.01)));
+    }
+
+    // 25 samples spread ±2% around the given throughput
+    private static RegressionDetector.Series series(double throughput, double allocated) {
+        RegressionDetector.Series series = new RegressionDetector.Series();
+        for (int i = 0; i < 25; i++) {
+            series.throughput.add(throughput * (0.98 + 0.04 * i / 24));
+            series.allocated.add(allocated + i);
+        }
+        return series;
+    }
+}
@@ -0,0 +1,66 @@
+package cli;
+
+import algorithms.KadaneState;
+import algorithms.SubarraySummary;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.Int32FileScanner;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for sharded scans: worker summaries and coordinator retries
+ */
+class ShardCoordinatorTest {
+
+    private static final int ELEMENTS = 100_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Worker summary of a file range matches the in-memory summary")
+    void testWorkerSummary() throws IOException {
+        Path file = dir.resolve("input.bin");
+        new InputGenerator(13).writeFile(Distribution.TRENDING_WALK, ELEMENTS, file);
+        int[] arr = new InputGenerator(13).generate(Distribution.TRENDING_WALK, ELEMENTS);
+
+        for (long[] range : new long[][]{{0, ELEMENTS}, {12_345, 40_000}, {ELEMENTS - 1, 1}}) {
+            SubarraySummary expected = SubarraySummary.of(arr, (int) range[0], (int) (range[0] + range[1]), 0);
+            SubarraySummary actual = ShardWorker.summarize(file, range[0], range[1]);
+            assertEquals(expected.toWireFormat(), actual.toWireFormat());
+        }
+        assertThrows(IllegalArgumentException.class, () -> ShardWorker.summarize(file, ELEMENTS - 10, 20));
+    }
+
+    @Test
+    @DisplayName("A crashed worker is re-run and the merged result is unchanged")
+    void testCrashedShardIsRetried() throws IOException {
+        Path file = dir.resolve("input.bin");
+        new InputGenerator(14).writeFile(Distribution.RANDOM, ELEMENTS, file);
+        KadaneState expected = Int32FileScanner.scan(file, new KadaneState());
+
+        SubarraySummary summary = new ShardCoordinator(3, 1, 60, 1).run(file);
+
+        assertEquals(ELEMENTS, summary.length);
+        assertEquals(expected.getBestSum(), summary.bestSum);
+        assertEquals(expected.getBestStart(), summary.bestStart);
+        assertEquals(expected.getBestEnd(), summary.bestEnd);
+    }
+
+    @Test
+    @DisplayName("A shard that keeps failing fails the whole scan")
+    void testPermanentFailure() throws IOException {
+        Path file = dir.resolve("input.bin");
+        new InputGenerator(15).writeFile(Distribution.RANDOM, ELEMENTS, file);
+
+        // With no retries the crashed first attempt is final
+        assertThrows(IllegalStateException.class, () -> new ShardCoordinator(2, 0, 60, 0).run(file));
+    }
+}
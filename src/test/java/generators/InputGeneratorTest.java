@@ -0,0 +1,97 @@
+package generators;
+
+import generators.InputGenerator.Distribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the seeded input generator
+ */
+class InputGeneratorTest {
+
+    // Spans several blocks and ends with a partial one
+    private static final int SIZE = 3 * InputGenerator.BLOCK_SIZE + 123;
+
+    @ParameterizedTest
+    @EnumSource(Distribution.class)
+    @DisplayName("Same seed gives identical arrays, buffers and files")
+    void testReproducibleAcrossSinks(Distribution distribution, @TempDir Path dir) throws IOException {
+        int[] first = new InputGenerator(99).generate(distribution, SIZE);
+        int[] second = new InputGenerator(99).generate(distribution, SIZE);
+        assertArrayEquals(first, second);
+
+        IntBuffer direct = new InputGenerator(99).generateDirect(distribution, SIZE);
+        int[] fromBuffer = new int[SIZE];
+        direct.get(fromBuffer);
+        assertArrayEquals(first, fromBuffer);
+
+        Path file = dir.resolve("input.bin");
+        new InputGenerator(99).writeFile(distribution, SIZE, file);
+        IntBuffer ints = ByteBuffer.wrap(Files.readAllBytes(file))
+            .order(ByteOrder.LITTLE_ENDIAN)
+            .asIntBuffer();
+        int[] fromFile = new int[SIZE];
+        ints.get(fromFile);
+        assertArrayEquals(first, fromFile);
+    }
+
+    @ParameterizedTest
+    @EnumSource(Distribution.class)
+    @DisplayName("Values stay within the configured range")
+    void testRange(Distribution distribution) {
+        for (int value : new InputGenerator(5, -50, 80).generate(distribution, SIZE)) {
+            assertTrue(value >= -50 && value <= 80, "Out of range: " + value);
+        }
+    }
+
+    @Test
+    @DisplayName("Sign-constrained distributions respect their sign")
+    void testSigns() {
+        InputGenerator generator = new InputGenerator(1);
+        int[] positive = generator.generate(Distribution.ALL_POSITIVE, 10_000);
+        int[] negative = generator.generate(Distribution.ALL_NEGATIVE, 10_000);
+        int[] alternating = generator.generate(Distribution.ALTERNATING_SIGNS, 10_000);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(positive[i] > 0);
+            assertTrue(negative[i] < 0);
+            assertEquals(i % 2 == 0, alternating[i] > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("Different seeds give different data")
+    void testSeedsDiffer() {
+        int[] a = new InputGenerator(1).generate(Distribution.RANDOM, 1000);
+        int[] b = new InputGenerator(2).generate(Distribution.RANDOM, 1000);
+        assertFalse(Arrays.equals(a, b));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Distribution.class)
+    @DisplayName("The full int range is accepted")
+    void testFullRange(Distribution distribution) {
+        int[] arr = new InputGenerator(1, Integer.MIN_VALUE, Integer.MAX_VALUE).generate(distribution, 1000);
+        assertEquals(1000, arr.length);
+    }
+
+    @Test
+    @DisplayName("Direct buffers beyond 2 GB are rejected up front")
+    void testDirectBufferLimit() {
+        assertThrows(IllegalArgumentException.class,
+            () -> new InputGenerator(1).generateDirect(Distribution.RANDOM, 600_000_000));
+    }
+}
@@ -0,0 +1,111 @@
+package metrics;
+
+import algorithms.KadaneAlgorithmOptimized;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the JFR engine invocation event
+ */
+class EngineInvocationEventTest {
+
+    @Test
+    @DisplayName("Engine calls emit events with engine, length and path")
+    void testEventsRecorded(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("engines.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EngineInvocationEvent.NAME).withThreshold(Duration.ZERO);
+            recording.start();
+            KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination(new int[]{-3, -1, -2});
+            KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination(new int[]{-3, 4, -2});
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals(EngineInvocationEvent.NAME))
+            .collect(Collectors.toList());
+
+        assertEquals(2, events.size());
+        assertEquals("KadaneAlgorithmOptimized.findMaxSubarrayWithEarlyTermination",
+            events.get(0).getString("engine"));
+        assertEquals(3, events.get(0).getInt("inputLength"));
+        assertEquals(EngineInvocationEvent.PATH_ALL_NEGATIVE, events.get(0).getString("path"));
+        assertEquals(-1, events.get(0).getLong("maxSum"));
+        assertEquals(EngineInvocationEvent.PATH_FULL_SCAN, events.get(1).getString("path"));
+        assertNotNull(events.get(1).getThread());
+    }
+
+    @Test
+    @DisplayName("Fast calls are dropped by the default threshold")
+    void testThreshold(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("threshold.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(EngineInvocationEvent.NAME).withThreshold(Duration.ofSeconds(10));
+            recording.start();
+            KadaneAlgorithmOptimized.findMaxSubarray(new int[]{1, 2, 3});
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertTrue(RecordingFile.readAllEvents(file).stream()
+            .noneMatch(e -> e.getEventType().getName().equals(EngineInvocationEvent.NAME)));
+    }
+
+    @Test
+    @DisplayName("The shipped kadane.jfc captures calls below the default threshold")
+    void testSettingsFile(@TempDir Path dir) throws IOException, ParseException {
+        Configuration configuration;
+        try (Reader reader = new InputStreamReader(
+                getClass().getResourceAsStream("/kadane.jfc"), StandardCharsets.UTF_8)) {
+            configuration = Configuration.create(reader);
+        }
+        assertEquals("0 ms", configuration.getSettings().get(EngineInvocationEvent.NAME + "#threshold"));
+
+        Path file = dir.resolve("settings.jfr");
+        try (Recording recording = new Recording(configuration)) {
+            recording.start();
+            KadaneAlgorithmOptimized.findMaxSubarray(new int[]{1, 2, 3});
+            recording.stop();
+            recording.dump(file);
+        }
+
+        assertEquals(1, RecordingFile.readAllEvents(file).stream()
+            .filter(e -> e.getEventType().getName().equals(EngineInvocationEvent.NAME))
+            .count());
+    }
+
+    @Test
+    @DisplayName("No event is started while the event is disabled")
+    void testDisabled() {
+        try (Recording recording = new Recording()) {
+            recording.disable(EngineInvocationEvent.NAME);
+            recording.start();
+            assertNull(EngineEvents.begin());
+            recording.stop();
+        }
+        try (Recording recording = new Recording()) {
+            recording.enable(EngineInvocationEvent.NAME);
+            recording.start();
+            assertNotNull(EngineEvents.begin());
+            recording.stop();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for benchmark statistics
+ */
+class StatisticsTest {
+
+    @Test
+    @DisplayName("Median of odd and even sample counts")
+    void testMedian() {
+        assertEquals(3.0, Statistics.median(new double[]{5, 1, 3}));
+        assertEquals(2.5, Statistics.median(new double[]{4, 1, 3, 2}));
+    }
+
+    @Test
+    @DisplayName("Normal CDF matches known values")
+    void testNormalCdf() {
+        assertEquals(0.5, Statistics.normalCdf(0), 1e-7);
+        assertEquals(0.975, Statistics.normalCdf(1.959964), 1e-6);
+        assertEquals(0.025, Statistics.normalCdf(-1.959964), 1e-6);
+    }
+
+    @Test
+    @DisplayName("Clearly shifted samples are significant, identical ones are not")
+    void testMannWhitney() {
+        Random random = new Random(1);
+        double[] slow = new double[25];
+        double[] fast = new double[25];
+        double[] fastAgain = new double[25];
+        for (int i = 0; i < 25; i++) {
+            slow[i] = 80 + random.nextGaussian() * 3;
+            fast[i] = 100 + random.nextGaussian() * 3;
+            fastAgain[i] = 100 + random.nextGaussian() * 3;
+        }
+
+        assertTrue(Statistics.mannWhitneyLess(slow, fast) < 0.001);
+        assertTrue(Statistics.mannWhitneyLess(fast, slow) > 0.999);
+        assertTrue(Statistics.mannWhitneyLess(fast, fastAgain) > 0.01);
+    }
+
+    @Test
+    @DisplayName("All-tied samples give p = 0.5")
+    void testAllTies() {
+        double[] a = {7, 7, 7, 7};
+        assertEquals(0.5, Statistics.mannWhitneyLess(a, a.clone()));
+    }
+}
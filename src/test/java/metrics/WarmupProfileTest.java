@@ -0,0 +1,44 @@
+package metrics;
+
+import algorithms.KadaneAlgorithmOptimized;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for warm-up profiling
+ */
+class WarmupProfileTest {
+
+    @Test
+    @DisplayName("Profile reports cold, warm-up and steady phases")
+    void testProfile() {
+        int[] arr = new int[2000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = (i * 31) % 201 - 100;
+        }
+
+        AtomicInteger calls = new AtomicInteger();
+        WarmupProfile profile = WarmupProfile.measure(() -> {
+            calls.incrementAndGet();
+            return KadaneAlgorithmOptimized.findMaxSubarray(arr).metrics;
+        }, 5, 0.5, 50, 7);
+
+        assertTrue(profile.coldNanos > 0);
+        assertTrue(profile.steadyMedianNanos > 0);
+        assertTrue(profile.warmupIterations <= 49);
+        // Cold call + warm-up + steady window (if reached) + steady samples
+        int expected = 1 + profile.warmupIterations + (profile.steady ? 5 : 0) + 7;
+        assertEquals(expected, calls.get());
+    }
+
+    @Test
+    @DisplayName("Invalid parameters are rejected")
+    void testInvalidParameters() {
+        assertThrows(IllegalArgumentException.class,
+            () -> WarmupProfile.measure(() -> new PerformanceTracker(), 10, 0.1, 5, 3));
+    }
+}
@@ -0,0 +1,202 @@
+package reactive;
+
+import algorithms.KadaneAlgorithmOptimized;
+import algorithms.KadaneState;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the reactive Kadane processor
+ */
+class KadaneProcessorTest {
+
+    @Test
+    @DisplayName("Final snapshot matches a scan of the concatenated chunks")
+    void testMatchesArrayScan() throws Exception {
+        int[] arr = new InputGenerator(4).generate(Distribution.RANDOM, 50_000);
+        ChunkPublisher source = new ChunkPublisher(arr, 777);
+
+        KadaneState result = KadaneProcessor.reduce(source).get(10, TimeUnit.SECONDS);
+
+        KadaneAlgorithmOptimized.Result expected = KadaneAlgorithmOptimized.findMaxSubarray(arr);
+        assertEquals(expected.maxSum, result.getBestSum());
+        assertEquals(expected.startIndex, result.getBestStart());
+        assertEquals(expected.endIndex, result.getBestEnd());
+        assertEquals(arr.length, result.getPosition());
+        source.shutdown();
+    }
+
+    @Test
+    @DisplayName("Interim snapshots are emitted per chunk and end with the final result")
+    void testInterimSnapshots() throws Exception {
+        int[] arr = {-2, 1, -3, 4, -1, 2, 1, -5, 4};
+        ChunkPublisher source = new ChunkPublisher(arr, 2);
+        KadaneProcessor processor = new KadaneProcessor(2);
+        List<KadaneState> snapshots = new CopyOnWriteArrayList<>();
+
+        // Subscribe downstream first; SubmissionPublisher drops items nobody listens to
+        CompletableFuture<Void> done = processor.consume(snapshots::add);
+        source.subscribe(processor);
+        done.get(10, TimeUnit.SECONDS);
+
+        // 5 chunks: snapshots after chunks 2 and 4, then the final one
+        assertEquals(3, snapshots.size());
+        assertEquals(4, snapshots.get(0).getPosition());
+        assertEquals(8, snapshots.get(1).getPosition());
+        KadaneState last = snapshots.get(2);
+        assertEquals(6, last.getBestSum());
+        assertEquals(3, last.getBestStart());
+        assertEquals(6, last.getBestEnd());
+        source.shutdown();
+    }
+
+    @Test
+    @DisplayName("A stalled subscriber stops demand from reaching the source")
+    void testBackpressure() throws Exception {
+        int[] arr = new int[100_000];
+        Arrays.fill(arr, 1);
+        ChunkPublisher source = new ChunkPublisher(arr, 100);   // 1000 chunks
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        KadaneProcessor processor = new KadaneProcessor(executor, 1, 1);
+        Flow.Subscription[] downstream = new Flow.Subscription[1];
+
+        processor.subscribe(new Flow.Subscriber<>() {
+            @Override public void onSubscribe(Flow.Subscription s) { downstream[0] = s; }
+            @Override public void onNext(KadaneState item) { }
+            @Override public void onError(Throwable t) { }
+            @Override public void onComplete() { }
+        });
+        source.subscribe(processor);
+
+        Thread.sleep(300);
+        // One chunk in flight, one snapshot buffered, one blocked in submit
+        assertTrue(source.requested.get() <= 4, "Requested " + source.requested.get());
+
+        downstream[0].cancel();
+        source.shutdown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Downstream cancellation cancels the source")
+    void testCancellationPropagates() throws Exception {
+        int[] arr = new int[600];
+        Arrays.fill(arr, 1);
+        ChunkPublisher source = new ChunkPublisher(arr, 100);   // 6 chunks
+        // Direct executor: snapshots are delivered inside submit
+        KadaneProcessor processor = new KadaneProcessor(Runnable::run, 4, 1);
+        List<KadaneState> snapshots = new CopyOnWriteArrayList<>();
+
+        processor.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+            @Override public void onSubscribe(Flow.Subscription s) { subscription = s; s.request(Long.MAX_VALUE); }
+            @Override public void onNext(KadaneState item) { snapshots.add(item); subscription.cancel(); }
+            @Override public void onError(Throwable t) { }
+            @Override public void onComplete() { }
+        });
+        source.subscribe(processor);
+
+        assertTrue(source.cancelled.await(10, TimeUnit.SECONDS), "Source was never cancelled");
+        assertEquals(1, source.requested.get());
+        assertEquals(1, snapshots.size());
+        assertTrue(processor.isClosed());
+        source.shutdown();
+    }
+
+    @Test
+    @DisplayName("Subscribing downstream after the source fails instead of truncating")
+    void testLateSubscriber() throws Exception {
+        ChunkPublisher source = new ChunkPublisher(new int[]{1, 2, 3, 4}, 1);
+        KadaneProcessor processor = new KadaneProcessor(Runnable::run, 4, 1);
+
+        source.subscribe(processor);
+        assertTrue(source.cancelled.await(10, TimeUnit.SECONDS), "Source was never cancelled");
+        assertEquals(1, source.requested.get());
+
+        CompletableFuture<Void> late = processor.consume(item -> { });
+        ExecutionException e = assertThrows(ExecutionException.class, () -> late.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        source.shutdown();
+    }
+
+    @Test
+    @DisplayName("Empty stream completes exceptionally")
+    void testEmptyStream() {
+        ChunkPublisher source = new ChunkPublisher(new int[0], 10);
+        ExecutionException e = assertThrows(ExecutionException.class,
+            () -> KadaneProcessor.reduce(source).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+        source.shutdown();
+    }
+
+    /**
+     * Asynchronous publisher that emits exactly as many chunks as requested
+     */
+    private static final class ChunkPublisher implements Flow.Publisher<int[]> {
+        private final int[] data;
+        private final int chunkSize;
+        private final ExecutorService executor = Executors.newSingleThreadExecutor();
+        final AtomicLong requested = new AtomicLong();
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        private int position;
+        private boolean done;
+
+        ChunkPublisher(int[] data, int chunkSize) {
+            this.data = data;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super int[]> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    executor.execute(() -> {
+                        for (long i = 0; i < n && !done; i++) {
+                            if (position >= data.length) {
+                                done = true;
+                                subscriber.onComplete();
+                                return;
+                            }
+                            int to = Math.min(data.length, position + chunkSize);
+                            int[] chunk = Arrays.copyOfRange(data, position, to);
+                            position = to;
+                            subscriber.onNext(chunk);
+                        }
+                        if (!done && position >= data.length) {
+                            done = true;
+                            subscriber.onComplete();
+                        }
+                    });
+                }
+
+                @Override
+                public void cancel() {
+                    done = true;
+                    cancelled.countDown();
+                }
+            });
+        }
+
+        void shutdown() {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package storage;
+
+import algorithms.KadaneState;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import storage.ScanCheckpoint.FsyncPolicy;
+import storage.ScanCheckpoint.InputFingerprint;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for checkpointed, resumable file scans
+ */
+class CheckpointedScanTest {
+
+    private static final int ELEMENTS = 200_000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("Resumed scan is bit-identical to an uninterrupted one")
+    void testResumeAfterCrash() throws IOException {
+        Path input = writeInput(Distribution.TRENDING_WALK);
+        Path checkpoint = dir.resolve("scan.ckpt");
+        KadaneState expected = Int32FileScanner.scan(input, new KadaneState());
+
+        // Simulate a crash: abort the first run after its third checkpoint
+        CheckpointedScan crashing = new CheckpointedScan(checkpoint, 10_000, FsyncPolicy.NONE)
+            .onCheckpoint(state -> {
+                if (state.getPosition() >= 30_000) {
+                    throw new IllegalStateException("crash");
+                }
+            });
+        assertThrows(IllegalStateException.class, () -> crashing.scan(input));
+        assertTrue(Files.exists(checkpoint));
+
+        CheckpointedScan resumed = new CheckpointedScan(checkpoint, 10_000, FsyncPolicy.FORCE);
+        KadaneState actual = resumed.scan(input);
+
+        assertEquals(30_000, resumed.getResumedFrom());
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(expected.getCurrentSum(), actual.getCurrentSum());
+        assertEquals(expected.getTempStart(), actual.getTempStart());
+        assertFalse(Files.exists(checkpoint), "Checkpoint should be removed on completion");
+    }
+
+    @Test
+    @DisplayName("Checkpoint round-trips every state field")
+    void testRoundTrip() throws IOException {
+        Path checkpoint = dir.resolve("state.ckpt");
+        KadaneState state = new KadaneState(-7, Long.MAX_VALUE, 12, 3, 99, 100);
+        InputFingerprint input = new InputFingerprint(500, 1234, 0xCAFE);
+        ScanCheckpoint.write(checkpoint, state, input, FsyncPolicy.NONE);
+
+        KadaneState read = ScanCheckpoint.read(checkpoint, input);
+        assertEquals(-7, read.getCurrentSum());
+        assertEquals(Long.MAX_VALUE, read.getBestSum());
+        assertEquals(12, read.getTempStart());
+        assertEquals(3, read.getBestStart());
+        assertEquals(99, read.getBestEnd());
+        assertEquals(100, read.getPosition());
+    }
+
+    @Test
+    @DisplayName("Corrupt or mismatched checkpoints are rejected")
+    void testRejectsBadCheckpoint() throws IOException {
+        Path checkpoint = dir.resolve("bad.ckpt");
+        InputFingerprint input = new InputFingerprint(500, 1234, 0xCAFE);
+        ScanCheckpoint.write(checkpoint, new KadaneState(1, 2, 0, 0, 0, 10), input, FsyncPolicy.NONE);
+
+        assertThrows(IOException.class,
+            () -> ScanCheckpoint.read(checkpoint, new InputFingerprint(501, 1234, 0xCAFE)));
+        assertThrows(IOException.class,
+            () -> ScanCheckpoint.read(checkpoint, new InputFingerprint(500, 1235, 0xCAFE)));
+        assertThrows(IOException.class,
+            () -> ScanCheckpoint.read(checkpoint, new InputFingerprint(500, 1234, 0xBEEF)));
+
+        byte[] bytes = Files.readAllBytes(checkpoint);
+        bytes[20] ^= 1;
+        Files.write(checkpoint, bytes, StandardOpenOption.TRUNCATE_EXISTING);
+        assertThrows(IOException.class, () -> ScanCheckpoint.read(checkpoint, input));
+    }
+
+    @Test
+    @DisplayName("A checkpoint is not resumed against a replaced input of the same size")
+    void testRejectsReplacedInput() throws IOException {
+        Path input = writeInput(Distribution.RANDOM);
+        Path checkpoint = dir.resolve("replaced.ckpt");
+        CheckpointedScan crashing = new CheckpointedScan(checkpoint, 10_000, FsyncPolicy.NONE)
+            .onCheckpoint(state -> {
+                throw new IllegalStateException("crash");
+            });
+        assertThrows(IllegalStateException.class, () -> crashing.scan(input));
+        assertTrue(Files.exists(checkpoint));
+
+        new InputGenerator(24).writeFile(Distribution.RANDOM, ELEMENTS, input);
+        CheckpointedScan resumed = new CheckpointedScan(checkpoint, 10_000, FsyncPolicy.NONE);
+        assertThrows(IOException.class, () -> resumed.scan(input));
+    }
+
+    private Path writeInput(Distribution distribution) throws IOException {
+        Path input = dir.resolve("input.bin");
+        new InputGenerator(23).writeFile(distribution, ELEMENTS, input);
+        return input;
+    }
+}
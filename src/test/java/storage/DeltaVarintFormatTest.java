@@ -0,0 +1,139 @@
+package storage;
+
+import algorithms.KadaneAlgorithmOptimized;
+import algorithms.KadaneState;
+import algorithms.SubarraySummary;
+import generators.InputGenerator;
+import generators.InputGenerator.Distribution;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test suite for the delta-varint file format and file scanners
+ */
+class DeltaVarintFormatTest {
+
+    @TempDir
+    Path dir;
+
+    @ParameterizedTest
+    @EnumSource(Distribution.class)
+    @DisplayName("Sequential and parallel decode match the in-memory scan")
+    void testScanMatchesArray(Distribution distribution) throws IOException {
+        int[] arr = new InputGenerator(17).generate(distribution, 100_000);
+        Path raw = dir.resolve("input.bin");
+        Path encoded = dir.resolve("input.kdv");
+        new InputGenerator(17).writeFile(distribution, arr.length, raw);
+        DeltaVarintFormat.encode(raw, encoded, 4096);
+
+        KadaneAlgorithmOptimized.Result expected = KadaneAlgorithmOptimized.findMaxSubarray(arr);
+        assertMatches(expected, Int32FileScanner.scan(raw, new KadaneState()));
+        assertMatches(expected, DeltaVarintFormat.scan(encoded, new KadaneState()));
+
+        SubarraySummary summary = DeltaVarintFormat.summarize(encoded);
+        assertEquals(expected.maxSum, summary.bestSum);
+        assertEquals(expected.startIndex, summary.bestStart);
+        assertEquals(expected.endIndex, summary.bestEnd);
+    }
+
+    @Test
+    @DisplayName("Extreme deltas round-trip through wrapping arithmetic")
+    void testExtremeValues() throws IOException {
+        int[] arr = {Integer.MAX_VALUE, Integer.MIN_VALUE, 0, Integer.MIN_VALUE, Integer.MAX_VALUE, -1, 1};
+        Path encoded = dir.resolve("extreme.kdv");
+        try (DeltaVarintFormat.Writer writer = new DeltaVarintFormat.Writer(encoded, 3)) {
+            writer.write(arr, 0, arr.length);
+        }
+
+        assertMatches(KadaneAlgorithmOptimized.findMaxSubarray(arr),
+            DeltaVarintFormat.scan(encoded, new KadaneState()));
+        assertEquals(3, DeltaVarintFormat.readIndex(encoded).size());
+    }
+
+    @Test
+    @DisplayName("Small deltas encode to about one byte per element")
+    void testCompression() throws IOException {
+        int[] arr = new int[10_000];
+        for (int i = 1; i < arr.length; i++) {
+            arr[i] = arr[i - 1] + (i % 7) - 3;
+        }
+        Path encoded = dir.resolve("small.kdv");
+        try (DeltaVarintFormat.Writer writer = new DeltaVarintFormat.Writer(encoded)) {
+            writer.write(arr, 0, arr.length);
+        }
+
+        assertTrue(Files.size(encoded) < arr.length + 64);
+    }
+
+    @Test
+    @DisplayName("Scan resumes from a partially consumed state")
+    void testResume() throws IOException {
+        int[] arr = new InputGenerator(8).generate(Distribution.RANDOM, 10_000);
+        Path encoded = dir.resolve("resume.kdv");
+        try (DeltaVarintFormat.Writer writer = new DeltaVarintFormat.Writer(encoded, 1000)) {
+            writer.write(arr, 0, arr.length);
+        }
+
+        KadaneState state = new KadaneState();
+        state.accept(arr, 0, 4321);
+        assertMatches(KadaneAlgorithmOptimized.findMaxSubarray(arr), DeltaVarintFormat.scan(encoded, state));
+    }
+
+    @Test
+    @DisplayName("Files without the magic header are rejected")
+    void testBadMagic() throws IOException {
+        Path bogus = dir.resolve("bogus.kdv");
+        Files.write(bogus, new byte[16]);
+
+        assertThrows(IOException.class, () -> DeltaVarintFormat.scan(bogus, new KadaneState()));
+    }
+
+    @Test
+    @DisplayName("Corrupt payloads raise IOException from both decoders")
+    void testCorruptPayload() throws IOException {
+        int[] arr = {0, 1000, -1000, 5000, 70000, 3};
+        Path encoded = dir.resolve("corrupt.kdv");
+        try (DeltaVarintFormat.Writer writer = new DeltaVarintFormat.Writer(encoded)) {
+            writer.write(arr, 0, arr.length);
+        }
+        byte[] bytes = Files.readAllBytes(encoded);
+        int payload = DeltaVarintFormat.FILE_HEADER_BYTES + DeltaVarintFormat.BLOCK_HEADER_BYTES;
+        Arrays.fill(bytes, payload, bytes.length, (byte) 0x80);   // Continuation bits that never end
+        Files.write(encoded, bytes);
+
+        assertThrows(IOException.class, () -> DeltaVarintFormat.scan(encoded, new KadaneState()));
+        assertThrows(IOException.class, () -> DeltaVarintFormat.summarize(encoded));
+    }
+
+    @Test
+    @DisplayName("Oversized block sizes are rejected by the reader and the writer")
+    void testHugeBlockSize() throws IOException {
+        Path hostile = dir.resolve("hostile.kdv");
+        ByteBuffer header = ByteBuffer.allocate(DeltaVarintFormat.FILE_HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(DeltaVarintFormat.MAGIC).putInt(429_496_730);
+        Files.write(hostile, header.array());
+
+        assertThrows(IOException.class, () -> DeltaVarintFormat.scan(hostile, new KadaneState()));
+        assertThrows(IOException.class, () -> DeltaVarintFormat.summarize(hostile));
+        assertThrows(IllegalArgumentException.class,
+            () -> new DeltaVarintFormat.Writer(dir.resolve("w.kdv"), DeltaVarintFormat.MAX_BLOCK_SIZE + 1));
+    }
+
+    private static void assertMatches(KadaneAlgorithmOptimized.Result expected, KadaneState actual) {
+        assertEquals(expected.maxSum, actual.getBestSum());
+        assertEquals(expected.startIndex, actual.getBestStart());
+        assertEquals(expected.endIndex, actual.getBestEnd());
+    }
+}